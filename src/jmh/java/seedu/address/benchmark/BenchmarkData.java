@@ -0,0 +1,120 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.category.Category;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Partner;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Price;
+
+/**
+ * Generates address books of any size for the benchmarks.
+ * The same size and seed always give the same persons, apart from their ids, so that results can be compared between
+ * runs and versions.
+ */
+public class BenchmarkData {
+
+    /** One in this many persons is a vendor, the rest are clients. */
+    public static final int VENDOR_RATIO = 5;
+
+    private static final long SEED = 42;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Jun Hao",
+        "Mei Ling", "Nur", "Priya", "Roy", "Siti", "Wei"};
+    private static final String[] LAST_NAMES = {"Balakrishnan", "Chen", "Lee", "Lim", "Ng", "O'Brien", "Oliveiro",
+        "Rahman", "Tan", "Wong", "Yeo"};
+    private static final String[] CATEGORIES = {"baker", "caterer", "florist", "musician", "photographer", "planner",
+        "venue", "videographer"};
+    private static final LocalDate FIRST_WEDDING_DATE = LocalDate.of(2026, 1, 1);
+    private static final int WEDDING_DATE_SPAN_DAYS = 730;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code size} persons with distinct phones, of which every {@value #VENDOR_RATIO}th is a vendor.
+     */
+    public static List<Person> createPersons(int size) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(i % VENDOR_RATIO == 0 ? createVendor(i, random) : createClient(i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code size} persons in which every client is linked to {@code linksPerClient}
+     * distinct vendors, or to all vendors if there are fewer.
+     */
+    public static AddressBook createAddressBook(int size, int linksPerClient) {
+        List<Person> persons = createPersons(size);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        List<Person> vendors = persons.stream().filter(person -> person.getType() == PersonType.VENDOR).toList();
+        int links = Math.min(linksPerClient, vendors.size());
+        Random random = new Random(SEED);
+        for (Person person : persons) {
+            if (person.getType() != PersonType.CLIENT) {
+                continue;
+            }
+            int first = random.nextInt(vendors.size());
+            for (int i = 0; i < links; i++) {
+                addressBook.addLink(person, vendors.get((first + i) % vendors.size()));
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a person that is not among those created by {@link #createPersons(int)} for any size up to
+     * {@code size}, but has the same kind of data.
+     */
+    public static Person createExtraPerson(int size) {
+        return createClient(size, new Random(SEED));
+    }
+
+    private static Person createClient(int i, Random random) {
+        int budget = 1000 * (5 + random.nextInt(50));
+        return new Person(getName(i, random), getPhone(i), getEmail(i), getAddress(i),
+                new WeddingDate(FIRST_WEDDING_DATE.plusDays(random.nextInt(WEDDING_DATE_SPAN_DAYS))),
+                PersonType.CLIENT, Set.of(), null, new Budget(budget + "-" + (budget * 2)),
+                Optional.of(new Partner(getName(i + 1, random).fullName)));
+    }
+
+    private static Person createVendor(int i, Random random) {
+        int price = 100 * (5 + random.nextInt(100));
+        return new Person(getName(i, random), getPhone(i), getEmail(i), getAddress(i), PersonType.VENDOR,
+                Set.of(new Category(CATEGORIES[random.nextInt(CATEGORIES.length)])),
+                new Price(price + "-" + (price * 3 / 2)));
+    }
+
+    private static Name getName(int i, Random random) {
+        return new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i);
+    }
+
+    private static Phone getPhone(int i) {
+        return new Phone(String.format("%08d", 80_000_000 + i));
+    }
+
+    private static Email getEmail(int i) {
+        return new Email("person" + i + "@example.com");
+    }
+
+    private static Address getAddress(int i) {
+        return new Address("Blk " + i + " Example Street");
+    }
+}
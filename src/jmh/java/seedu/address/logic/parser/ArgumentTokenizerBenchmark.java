@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTNER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING_DATE;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting the arguments of typical commands by their prefixes.
+ * The time does not depend on the size of the address book, so there is no size parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Map<String, String> ARGUMENTS = Map.of(
+            "addClient", " n/Jun Hao Tan p/91234567 e/junhao@example.com a/Blk 123 Example Street #01-01 type/client"
+                    + " w/15-06-2026 pr/Mei Ling Lim budget/20000-30000",
+            "addVendor", " n/Blooming Flowers p/81234567 e/hello@blooming.com a/1 Orchard Road type/vendor"
+                    + " price/1500-2500 c/florist c/decorator c/planner",
+            "edit", " 12 p/98765432 e/new.address@example.com",
+            "manyCategories", " n/Everything Weddings p/87654321 e/hi@everything.com a/2 Marina Way type/vendor"
+                    + " price/10000 c/florist c/decorator c/planner c/caterer c/photographer c/videographer c/baker"
+                    + " c/musician c/makeup c/bridal c/venue c/transport c/stationery c/lighting c/officiant");
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_WEDDING_DATE, PREFIX_CATEGORY, PREFIX_TYPE, PREFIX_PARTNER, PREFIX_PRICE, PREFIX_BUDGET};
+
+    @Param({"addClient", "addVendor", "edit", "manyCategories"})
+    public String command;
+
+    private String arguments;
+
+    /**
+     * Picks the arguments of {@code command}.
+     */
+    @Setup
+    public void setUp() {
+        arguments = ARGUMENTS.get(command);
+    }
+
+    /**
+     * Tokenizes the arguments with every prefix that add and edit accept.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIXES);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Measures editing linked persons in an {@code AddressBook}, which also updates the links and bookings of everyone
+ * they are linked to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"0", "4", "16"})
+    public int linksPerClient;
+
+    private AddressBook addressBook;
+    private Person vendor;
+    private Person editedVendor;
+    private Person client;
+    private Person editedClient;
+
+    /**
+     * Creates the address book, and edited versions of its most linked vendor and of a client.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.createAddressBook(size, linksPerClient);
+        vendor = addressBook.getPersonList().stream()
+                .filter(person -> person.getType() == PersonType.VENDOR)
+                .max(Comparator.comparingInt(person -> addressBook.getLinkedPersons(person).size()))
+                .get();
+        editedVendor = new Person(vendor.getId(), vendor.getName(), vendor.getPhone(),
+                new Email("edited." + vendor.getEmail().value), vendor.getAddress(), vendor.getType(),
+                vendor.getCategories(), vendor.getPrice().orElse(null));
+        client = addressBook.getPersonList().get(1);
+        editedClient = new Person(client.getId(), client.getName(), client.getPhone(), client.getEmail(),
+                client.getAddress(), new WeddingDate(client.getWeddingDate().get().getDate().plusDays(1)),
+                client.getType(), client.getCategories(), null, client.getBudget().orElse(null), client.getPartner());
+    }
+
+    /**
+     * Edits the most linked vendor, then changes it back.
+     */
+    @Benchmark
+    public void setLinkedVendor() {
+        addressBook.setPerson(vendor, editedVendor);
+        addressBook.setPerson(editedVendor, vendor);
+    }
+
+    /**
+     * Moves the wedding of a linked client by a day, then moves it back.
+     */
+    @Benchmark
+    public void setLinkedClientWeddingDate() {
+        addressBook.setPerson(client, editedClient);
+        addressBook.setPerson(editedClient, client);
+    }
+}
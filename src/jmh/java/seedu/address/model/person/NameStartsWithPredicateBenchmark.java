@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures finding the persons whose names start with a query, by testing every person against a
+ * {@code NameStartsWithPredicate} and through the name index of a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameStartsWithPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"tan", "mei l", "o'b"})
+    public String query;
+
+    private List<Person> personList;
+    private UniquePersonList persons;
+    private NameStartsWithPredicate predicate;
+
+    /**
+     * Creates {@code size} persons and the predicate for {@code query}.
+     */
+    @Setup
+    public void setUp() {
+        personList = BenchmarkData.createPersons(size);
+        persons = new UniquePersonList();
+        persons.setPersons(personList);
+        predicate = new NameStartsWithPredicate(query);
+    }
+
+    /**
+     * Counts the persons that match the predicate.
+     */
+    @Benchmark
+    public long filter() {
+        return personList.stream().filter(predicate).count();
+    }
+
+    /**
+     * Finds the ids of the persons that match the query through the name index.
+     */
+    @Benchmark
+    public Set<PersonId> findIdsByNamePrefix() {
+        return persons.findIdsByNamePrefix(query);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures adding persons to, and looking them up in, a {@code UniquePersonList} of various sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniquePersonList persons;
+    private Person present;
+    private Person absent;
+
+    /**
+     * Fills the list with {@code size} persons.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> created = BenchmarkData.createPersons(size);
+        persons = new UniquePersonList();
+        persons.setPersons(created);
+        present = created.get(size / 2);
+        absent = BenchmarkData.createExtraPerson(size);
+    }
+
+    /**
+     * Adds a person and removes it again, so that the list keeps its size.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        persons.add(absent);
+        persons.remove(absent);
+    }
+
+    /**
+     * Looks up a person in the list.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(present);
+    }
+
+    /**
+     * Looks up a person that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absent);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures loading and saving address books of various sizes and link densities as JSON files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"0", "4", "16"})
+    public int linksPerClient;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+    private Path savedFilePath;
+
+    /**
+     * Creates the address book and saves it to a temporary folder to be loaded.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("knotbook-benchmark");
+        addressBook = BenchmarkData.createAddressBook(size, linksPerClient);
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+        savedFilePath = folder.resolve("saved.json");
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Loads the address book from its file.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Saves the address book to a file of its own.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, savedFilePath);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.ScriptResult;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands against the data file without starting the GUI, e.g.
+ * {@code java -jar KnotBook.jar --batch=vendors.txt --save-every=1000}.
+ * The script is read from standard input if its file is {@value #STDIN}.
+ */
+public class BatchApp {
+
+    public static final String BATCH_PARAMETER = "batch";
+    public static final String SAVE_EVERY_PARAMETER = "save-every";
+    public static final String CONFIG_PARAMETER = "config";
+    public static final String STDIN = "-";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_LINES_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: --" + BATCH_PARAMETER + "=SCRIPT_FILE|" + STDIN
+            + " [--" + SAVE_EVERY_PARAMETER + "=COMMANDS] [--" + CONFIG_PARAMETER + "=CONFIG_FILE]";
+    public static final String MESSAGE_INVALID_SAVE_EVERY = "--" + SAVE_EVERY_PARAMETER
+            + " must be a whole number of commands, or 0 to save only at the end.";
+    public static final String MESSAGE_INVALID_PATH = "Invalid file path: %1$s";
+    public static final String MESSAGE_FAILED = "Could not run the script: %1$s";
+
+    private BatchApp() {}
+
+    /**
+     * Returns true if {@code args} ask for a script to be run without the GUI.
+     */
+    public static boolean isBatchMode(String[] args) {
+        return parseNamedParameters(args).containsKey(BATCH_PARAMETER);
+    }
+
+    /**
+     * Runs the script named in {@code args}, reporting failed lines to {@code err} and a summary to {@code out}.
+     * Returns the exit status: {@link #EXIT_SUCCESS} if every line succeeded, {@link #EXIT_LINES_FAILED} if some
+     * failed, or {@link #EXIT_ERROR} if the script could not be run or its results could not be saved.
+     */
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Map<String, String> parameters = parseNamedParameters(args);
+        String script = parameters.get(BATCH_PARAMETER);
+        String configPath = parameters.get(CONFIG_PARAMETER);
+        if (script == null || script.isEmpty()) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+        for (String path : new String[] {script.equals(STDIN) ? null : script, configPath}) {
+            if (path != null && !FileUtil.isValidPath(path)) {
+                err.println(String.format(MESSAGE_INVALID_PATH, path));
+                return EXIT_ERROR;
+            }
+        }
+        int saveInterval;
+        try {
+            saveInterval = Integer.parseInt(parameters.getOrDefault(SAVE_EVERY_PARAMETER, "0"));
+        } catch (NumberFormatException e) {
+            saveInterval = -1;
+        }
+        if (saveInterval < 0) {
+            err.println(MESSAGE_INVALID_SAVE_EVERY);
+            return EXIT_ERROR;
+        }
+
+        AppInitializer initializer = new AppInitializer(configPath == null ? null : Paths.get(configPath), false);
+        Storage storage = initializer.getStorage();
+        ScriptRunner runner = new ScriptRunner(initializer.getModel(), storage, saveInterval);
+        try (BufferedReader reader = script.equals(STDIN)
+                ? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8)) {
+            ScriptResult result = runner.run(reader, err::println);
+            storage.saveUserPrefs(initializer.getModel().getUserPrefs());
+            out.println(result);
+            return result.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_LINES_FAILED;
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_FAILED, e));
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, by name.
+     * A parameter given without a value has the empty string as its value.
+     */
+    private static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                parameters.put(arg.substring(2), "");
+            } else {
+                parameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parameters;
+    }
+}
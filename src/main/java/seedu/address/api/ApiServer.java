@@ -0,0 +1,324 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.CategoryMatchesPredicate;
+import seedu.address.model.person.NameStartsWithPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.WeddingDateInRangePredicate;
+
+/**
+ * Serves the address book as JSON over HTTP on the loopback interface, so that local scripts and tools can use it
+ * while the app is running.
+ * <ul>
+ *   <li>{@code GET /api/persons} lists the persons, optionally only those matching all of the query parameters
+ *   {@code name} (a word that the name or partner's name starts with), {@code phone}, {@code category}, and
+ *   {@code from} and {@code to} (an inclusive range of wedding dates).</li>
+ *   <li>{@code POST /api/commands} executes the command in the request body, exactly as if it had been typed in.</li>
+ * </ul>
+ * Requests are handled by a pool of threads. Reads are served concurrently from the latest snapshot of the address
+ * book, which no command changes, so they never wait for commands or hold them up. Commands are all handed to a single
+ * command executor, which must be the thread that the app executes the user's commands on, so that they are never
+ * interleaved.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String NAME_PARAMETER = "name";
+    public static final String PHONE_PARAMETER = "phone";
+    public static final String CATEGORY_PARAMETER = "category";
+    public static final String FROM_PARAMETER = "from";
+    public static final String TO_PARAMETER = "to";
+
+    public static final String MESSAGE_NOT_FOUND = "Unknown path: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests.";
+    public static final String MESSAGE_FORBIDDEN = "Requests from web pages are not accepted.";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown query parameter: %1$s";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must be the command to execute.";
+    public static final String MESSAGE_COMMAND_TOO_LONG = "Commands must be at most %1$d bytes long.";
+    public static final String MESSAGE_TIMED_OUT = "The app did not respond in time.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled.";
+
+    static final int MAX_COMMAND_BYTES = 64 * 1024;
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final long COMMAND_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates a server for {@code logic} on the loopback port {@code port}, or on any free port if it is 0, which
+     * handles requests on {@code requestThreadCount} threads and hands commands to {@code commandExecutor}.
+     * The server does not accept requests until it is {@link #start() started}.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor commandExecutor, int port, int requestThreadCount) throws IOException {
+        requireAllNonNull(logic, commandExecutor);
+        checkArgument(requestThreadCount > 0, "There must be at least one request thread.");
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        requestExecutor = Executors.newFixedThreadPool(requestThreadCount, runnable -> {
+            Thread thread = new Thread(runnable, "ApiRequest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the HTTP API at http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops accepting requests and abandons the requests being handled.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        logger.fine(() -> "API request: " + exchange.getRequestMethod() + " " + exchange.getRequestURI());
+        try {
+            send(exchange, STATUS_OK, respond(exchange));
+        } catch (ApiException e) {
+            send(exchange, e.status, Map.of("error", e.getMessage()));
+        } catch (CommandException | ParseException e) {
+            send(exchange, STATUS_BAD_REQUEST, Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle API request " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(e));
+            send(exchange, STATUS_INTERNAL_ERROR, Map.of("error", MESSAGE_INTERNAL_ERROR));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Object respond(HttpExchange exchange) throws IOException, ApiException, CommandException, ParseException {
+        // Browsers name the page that sent a request, and no web page should be able to use the API
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN);
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        switch (path) {
+        case PERSONS_PATH:
+            requireMethod(exchange, "GET");
+            return listPersons(parseQuery(exchange.getRequestURI().getRawQuery()));
+        case COMMANDS_PATH:
+            requireMethod(exchange, "POST");
+            return executeCommand(readCommand(exchange));
+        default:
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws ApiException {
+        if (!exchange.getRequestMethod().equals(method)) {
+            throw new ApiException(STATUS_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestURI().getPath(), method));
+        }
+    }
+
+    private Map<String, Object> listPersons(Map<String, String> parameters) throws ApiException, ParseException {
+        Predicate<Person> filter = parseFilter(parameters);
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        List<JsonApiPerson> persons = snapshot.getPersonList().stream()
+                .filter(filter)
+                .map(person -> new JsonApiPerson(person, snapshot.getLinkedPersons(person)))
+                .collect(Collectors.toList());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("count", persons.size());
+        body.put("persons", persons);
+        return body;
+    }
+
+    /**
+     * Returns a predicate that matches the persons that match all of {@code parameters}.
+     */
+    private static Predicate<Person> parseFilter(Map<String, String> parameters) throws ApiException, ParseException {
+        Predicate<Person> filter = person -> true;
+        LocalDate from = LocalDate.MIN;
+        LocalDate to = LocalDate.MAX;
+        boolean hasDateRange = false;
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            String value = parameter.getValue();
+            switch (parameter.getKey()) {
+            case NAME_PARAMETER:
+                if (value.isBlank()) {
+                    throw new ParseException(NAME_PARAMETER + " must not be empty.");
+                }
+                filter = filter.and(new NameStartsWithPredicate(value));
+                break;
+            case PHONE_PARAMETER:
+                Phone phone = ParserUtil.parsePhone(value);
+                filter = filter.and(person -> person.getPhone().equals(phone));
+                break;
+            case CATEGORY_PARAMETER:
+                filter = filter.and(new CategoryMatchesPredicate(ParserUtil.parseCategory(value).categoryName));
+                break;
+            case FROM_PARAMETER:
+                from = ParserUtil.parseWeddingDate(value).getDate();
+                hasDateRange = true;
+                break;
+            case TO_PARAMETER:
+                to = ParserUtil.parseWeddingDate(value).getDate();
+                hasDateRange = true;
+                break;
+            default:
+                throw new ApiException(STATUS_BAD_REQUEST,
+                        String.format(MESSAGE_UNKNOWN_PARAMETER, parameter.getKey()));
+            }
+        }
+        return hasDateRange ? filter.and(new WeddingDateInRangePredicate(from, to)) : filter;
+    }
+
+    private Map<String, Object> executeCommand(String commandText)
+            throws ApiException, CommandException, ParseException {
+        CommandResult commandResult = callOnCommandThread(() -> logic.execute(commandText));
+        return Map.of("feedback", commandResult.getFeedbackToUser());
+    }
+
+    private static String readCommand(HttpExchange exchange) throws IOException, ApiException {
+        byte[] body = exchange.getRequestBody().readNBytes(MAX_COMMAND_BYTES + 1);
+        if (body.length > MAX_COMMAND_BYTES) {
+            throw new ApiException(STATUS_PAYLOAD_TOO_LARGE, String.format(MESSAGE_COMMAND_TOO_LONG,
+                    MAX_COMMAND_BYTES));
+        }
+        String commandText = new String(body, StandardCharsets.UTF_8).trim();
+        if (commandText.isEmpty()) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+        return commandText;
+    }
+
+    /**
+     * Returns the query parameters in {@code rawQuery}, by name.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Runs {@code task} on the command executor after the commands already handed to it, and returns its result.
+     * If the command executor does not get to it in time, the task is abandoned, although it may already have run.
+     */
+    private <T> T callOnCommandThread(Callable<T> task) throws ApiException, CommandException, ParseException {
+        FutureTask<T> future = new FutureTask<>(task);
+        commandExecutor.execute(future);
+        try {
+            return future.get(COMMAND_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMED_OUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMED_OUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toCompactJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Signals that a request cannot be handled, with the HTTP status to answer it with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Person;
+
+/**
+ * The form in which the HTTP API returns a {@link Person}.
+ * Fields that the person does not have are null.
+ */
+class JsonApiPerson {
+
+    private final String id;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String type;
+    private final String weddingDate;
+    private final String price;
+    private final String budget;
+    private final String partner;
+    private final List<String> categories;
+    private final List<String> linkedPersonIds;
+
+    /**
+     * Converts {@code source}, which is linked to {@code linkedPersons}, into this class for Jackson use.
+     */
+    JsonApiPerson(Person source, List<Person> linkedPersons) {
+        id = source.getId().value;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        type = source.getType().toString();
+        weddingDate = source.getWeddingDate().map(WeddingDate::toString).orElse(null);
+        price = source.getPrice().map(p -> p.value).orElse(null);
+        budget = source.getBudget().map(b -> b.value).orElse(null);
+        partner = source.getPartner().map(p -> p.value).orElse(null);
+        categories = source.getCategories().stream()
+                .map(category -> category.categoryName)
+                .sorted()
+                .collect(Collectors.toList());
+        linkedPersonIds = linkedPersons.stream()
+                .map(person -> person.getId().value)
+                .collect(Collectors.toList());
+    }
+}
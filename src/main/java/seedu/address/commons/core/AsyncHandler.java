@@ -0,0 +1,135 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a dedicated writer thread, so that logging never
+ * waits for the console or a file.
+ * Records wait for the writer in a bounded queue. When the queue is full, new records are dropped rather than making
+ * the logging thread wait, and the writer reports how many were dropped before it writes the next record.
+ */
+class AsyncHandler extends Handler {
+
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 2000;
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> records;
+    private final AtomicInteger droppedCount = new AtomicInteger();
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed;
+
+    // Guarded by this
+    private long writtenCount;
+
+    /**
+     * Creates an {@code AsyncHandler} that passes records on to {@code handlers}, holding at most {@code capacity}
+     * records that have not been written yet.
+     */
+    AsyncHandler(int capacity, Handler... handlers) {
+        this.handlers = List.of(handlers);
+        records = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, "LogWriter");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        requireNonNull(record);
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is found by walking the stack, which has to happen on the thread that logged the record
+        record.getSourceClassName();
+        if (records.offer(record)) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for the records published so far to be written, for up to a few seconds, then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (this) {
+            long remainingNanos = deadline - System.nanoTime();
+            while (writtenCount < target && remainingNanos > 0 && writer.isAlive()) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remainingNanos = deadline - System.nanoTime();
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records published so far, stops the writer thread and closes the handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        flush();
+        isClosed = true;
+        writer.interrupt();
+        handlers.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        while (!isClosed) {
+            LogRecord record;
+            try {
+                record = records.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            reportDroppedRecords();
+            write(record);
+            synchronized (this) {
+                writtenCount++;
+                notifyAll();
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        int dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            write(new LogRecord(Level.WARNING, dropped + " log records were dropped because too many were logged"
+                    + " at once."));
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
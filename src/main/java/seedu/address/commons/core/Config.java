@@ -17,6 +17,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int journalCompactionThreshold = 500;
+    private long maxSaveStalenessMillis = 500;
+    private boolean prettyPrintDataFile = true;
+    private int apiPort = 0;
+    private int apiReadThreadCount = 4;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,49 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    public boolean isPrettyPrintDataFile() {
+        return prettyPrintDataFile;
+    }
+
+    public void setPrettyPrintDataFile(boolean prettyPrintDataFile) {
+        this.prettyPrintDataFile = prettyPrintDataFile;
+    }
+
+    /**
+     * Returns the loopback port that the HTTP API listens on, or 0 if the API is turned off.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    public int getApiReadThreadCount() {
+        return apiReadThreadCount;
+    }
+
+    public void setApiReadThreadCount(int apiReadThreadCount) {
+        this.apiReadThreadCount = apiReadThreadCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +95,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && maxSaveStalenessMillis == otherConfig.maxSaveStalenessMillis
+                && prettyPrintDataFile == otherConfig.prettyPrintDataFile
+                && apiPort == otherConfig.apiPort
+                && apiReadThreadCount == otherConfig.apiReadThreadCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalCompactionThreshold, maxSaveStalenessMillis,
+                prettyPrintDataFile, apiPort, apiReadThreadCount);
     }
 
     @Override
@@ -60,6 +114,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("maxSaveStalenessMillis", maxSaveStalenessMillis)
+                .add("prettyPrintDataFile", prettyPrintDataFile)
+                .add("apiPort", apiPort)
+                .add("apiReadThreadCount", apiReadThreadCount)
                 .toString();
     }
 
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,6 +17,9 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written on a background thread, so logging does not slow down the thread that logs. Messages that are
+ *   costly to build should be passed as a {@code Supplier<String>}, e.g. {@code logger.fine(() -> "..." + x)}, so
+ *   that they are only built when their level is enabled.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -89,16 +93,26 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
 
         // add a FileHandler to log to a file
+        FileHandler fileHandler = null;
         try {
-            FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // reported below, once the handlers are in place
+        }
+
+        // both are written to on a background thread
+        Handler[] handlers = fileHandler == null
+                ? new Handler[] {consoleHandler}
+                : new Handler[] {consoleHandler, fileHandler};
+        AsyncHandler asyncHandler = new AsyncHandler(AsyncHandler.DEFAULT_CAPACITY, handlers);
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+        if (fileHandler == null) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
@@ -0,0 +1,406 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An immutable map that is changed by making a new version of it. A new version shares all but O(log n) of its nodes
+ * with the version it was made from, so every version stays valid, and any version can be read from any thread
+ * without locking once it has been safely published. Keys and values must not be null.
+ * Getting, putting and removing a key take O(log n) time, with a base of 32, so they visit at most seven nodes.
+ *
+ * The entries are kept in a hash array mapped trie: each level of the trie branches on the next five bits of the hash
+ * codes of the keys, and only stores the branches that are used.
+ */
+public final class PersistentMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    // Either null, an Entry or a Node
+    private final Object root;
+    private final int size;
+
+    private PersistentMap(Object root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map of the entries of {@code map}, in O(n log n) time but without making any intermediate versions.
+     */
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        List<Entry> entries = new ArrayList<>(map.size());
+        map.forEach((key, value) -> entries.add(new Entry(requireNonNull(key), requireNonNull(value))));
+        // Sorting the entries by their hash codes, read five bits at a time from the lowest bits up, puts the entries
+        // of every subtree of the trie next to each other
+        entries.sort((first, second) -> Long.compare(trieOrder(first.hash), trieOrder(second.hash)));
+        return new PersistentMap<>(build(entries, 0, entries.size(), 0), entries.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if it has none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        int hash = key.hashCode();
+        Object current = root;
+        for (int shift = 0; current instanceof Node; shift += BITS_PER_LEVEL) {
+            current = ((Node) current).child(hash, shift);
+        }
+        if (current instanceof Entry) {
+            return (V) ((Entry) current).get(key);
+        }
+        return null;
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a version of this map in which {@code key} has the value {@code value}.
+     */
+    public PersistentMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        int[] sizeChange = new int[1];
+        Object newRoot = put(root, new Entry(key, value), 0, sizeChange);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, size + sizeChange[0]);
+    }
+
+    /**
+     * Returns a version of this map in which {@code key} has no value.
+     */
+    public PersistentMap<K, V> remove(Object key) {
+        requireNonNull(key);
+        Object newRoot = remove(root, key, key.hashCode(), 0);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Calls {@code action} with every key that has a different value in {@code other} than in this map, including the
+     * keys that are only in one of them. Values are compared by identity.
+     * The parts of the trie that the two maps share are skipped, so comparing a map with a version made from it by k
+     * changes takes O(k log n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachChangedKey(PersistentMap<K, V> other, Consumer<? super K> action) {
+        requireNonNull(other);
+        requireNonNull(action);
+        forEachChangedKey(root, other.root, (Consumer<Object>) action);
+    }
+
+    private static void forEachChangedKey(Object first, Object second, Consumer<Object> action) {
+        if (first == second) {
+            return;
+        }
+        if (first instanceof Node && second instanceof Node) {
+            Node firstNode = (Node) first;
+            Node secondNode = (Node) second;
+            int bits = firstNode.bitmap | secondNode.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                forEachChangedKey(firstNode.child(bit), secondNode.child(bit), action);
+                bits &= ~bit;
+            }
+            return;
+        }
+
+        // One side is empty or a single entry here, so the other side only holds the few keys that were added to it
+        Map<Object, Object> firstEntries = new HashMap<>();
+        Map<Object, Object> secondEntries = new HashMap<>();
+        collect(first, firstEntries);
+        collect(second, secondEntries);
+        firstEntries.forEach((key, value) -> {
+            if (secondEntries.get(key) != value) {
+                action.accept(key);
+            }
+        });
+        secondEntries.keySet().stream()
+                .filter(key -> !firstEntries.containsKey(key))
+                .forEach(action);
+    }
+
+    private static void collect(Object current, Map<Object, Object> entries) {
+        if (current instanceof Entry) {
+            Entry entry = (Entry) current;
+            for (int i = 0; i < entry.keys.length; i++) {
+                entries.put(entry.keys[i], entry.values[i]);
+            }
+        } else if (current instanceof Node) {
+            for (Object child : ((Node) current).children) {
+                collect(child, entries);
+            }
+        }
+    }
+
+    private static Object put(Object current, Entry entry, int shift, int[] sizeChange) {
+        if (current == null) {
+            sizeChange[0] = 1;
+            return entry;
+        }
+        if (current instanceof Entry) {
+            Entry existing = (Entry) current;
+            if (existing.hash == entry.hash) {
+                Entry merged = existing.with(entry);
+                sizeChange[0] = merged.keys.length - existing.keys.length;
+                return merged;
+            }
+            sizeChange[0] = 1;
+            return Node.of(existing, entry, shift);
+        }
+        Node node = (Node) current;
+        int bit = bit(entry.hash, shift);
+        int index = node.index(bit);
+        if ((node.bitmap & bit) == 0) {
+            sizeChange[0] = 1;
+            return node.withInserted(bit, index, entry);
+        }
+        Object child = node.children[index];
+        Object newChild = put(child, entry, shift + BITS_PER_LEVEL, sizeChange);
+        return newChild == child ? node : node.withReplaced(index, newChild);
+    }
+
+    private static Object remove(Object current, Object key, int hash, int shift) {
+        if (current == null) {
+            return null;
+        }
+        if (current instanceof Entry) {
+            Entry entry = (Entry) current;
+            return entry.hash == hash ? entry.without(key) : entry;
+        }
+        Node node = (Node) current;
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = node.index(bit);
+        Object child = node.children[index];
+        Object newChild = remove(child, key, hash, shift + BITS_PER_LEVEL);
+        if (newChild == child) {
+            return node;
+        } else if (newChild == null) {
+            return node.withRemoved(bit, index);
+        }
+        return node.withReplaced(index, newChild);
+    }
+
+    private static Object build(List<Entry> entries, int from, int to, int shift) {
+        if (from == to) {
+            return null;
+        } else if (to - from == 1) {
+            return entries.get(from);
+        }
+        if (shift >= Integer.SIZE || entries.get(from).hash == entries.get(to - 1).hash) {
+            // Only entries with equal hash codes are left
+            Entry merged = entries.get(from);
+            for (int i = from + 1; i < to; i++) {
+                merged = merged.with(entries.get(i));
+            }
+            return merged;
+        }
+
+        int bitmap = 0;
+        List<Object> children = new ArrayList<>();
+        int start = from;
+        while (start < to) {
+            int bit = bit(entries.get(start).hash, shift);
+            int end = start + 1;
+            while (end < to && bit(entries.get(end).hash, shift) == bit) {
+                end++;
+            }
+            bitmap |= bit;
+            children.add(build(entries, start, end, shift + BITS_PER_LEVEL));
+            start = end;
+        }
+        return new Node(bitmap, children.toArray());
+    }
+
+    /**
+     * Returns a number that orders hash codes by their lowest five bits, then their next five bits, and so on.
+     */
+    private static long trieOrder(int hash) {
+        long order = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS_PER_LEVEL) {
+            order = (order << BITS_PER_LEVEL) | ((hash >>> shift) & LEVEL_MASK);
+        }
+        return order;
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * A branch of the trie, which has a child for each bit set in its bitmap.
+     */
+    private static final class Node {
+        private final int bitmap;
+        // Each child is either an Entry or a Node
+        private final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        /**
+         * Returns a node that holds {@code first} and {@code second}, which have different hash codes, at the level
+         * of the trie that branches on the bits at {@code shift}.
+         */
+        static Node of(Entry first, Entry second, int shift) {
+            int firstBit = bit(first.hash, shift);
+            int secondBit = bit(second.hash, shift);
+            if (firstBit == secondBit) {
+                return new Node(firstBit, new Object[] {of(first, second, shift + BITS_PER_LEVEL)});
+            }
+            Object[] children = Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[] {first, second}
+                    : new Object[] {second, first};
+            return new Node(firstBit | secondBit, children);
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        Object child(int hash, int shift) {
+            return child(bit(hash, shift));
+        }
+
+        Object child(int bit) {
+            return (bitmap & bit) == 0 ? null : children[index(bit)];
+        }
+
+        Node withInserted(int bit, int index, Object child) {
+            Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            return new Node(bitmap | bit, newChildren);
+        }
+
+        Node withReplaced(int index, Object child) {
+            Object[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new Node(bitmap, newChildren);
+        }
+
+        /**
+         * Returns this node without the child at {@code index}, or the only child left if it is an entry, or null if
+         * there is none left.
+         */
+        Object withRemoved(int bit, int index) {
+            if (children.length == 1) {
+                return null;
+            }
+            if (children.length == 2 && children[1 - index] instanceof Entry) {
+                return children[1 - index];
+            }
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            return new Node(bitmap & ~bit, newChildren);
+        }
+    }
+
+    /**
+     * A leaf of the trie, which holds every key with one hash code, and their values.
+     * There is almost always only one such key.
+     */
+    private static final class Entry {
+        private final int hash;
+        private final Object[] keys;
+        private final Object[] values;
+
+        Entry(Object key, Object value) {
+            this(key.hashCode(), new Object[] {key}, new Object[] {value});
+        }
+
+        private Entry(int hash, Object[] keys, Object[] values) {
+            this.hash = hash;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        Object get(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns this entry with the key and value of {@code other}, which has the same hash code, added or replacing
+         * the value of an equal key.
+         */
+        Entry with(Entry other) {
+            Object key = other.keys[0];
+            Object value = other.values[0];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    if (values[i] == value) {
+                        return this;
+                    }
+                    Object[] newValues = values.clone();
+                    newValues[i] = value;
+                    return new Entry(hash, keys, newValues);
+                }
+            }
+            Object[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            Object[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return new Entry(hash, newKeys, newValues);
+        }
+
+        /**
+         * Returns this entry without {@code key}, or null if no key would be left.
+         */
+        Entry without(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    if (keys.length == 1) {
+                        return null;
+                    }
+                    Object[] newKeys = new Object[keys.length - 1];
+                    Object[] newValues = new Object[values.length - 1];
+                    System.arraycopy(keys, 0, newKeys, 0, i);
+                    System.arraycopy(keys, i + 1, newKeys, i, newKeys.length - i);
+                    System.arraycopy(values, 0, newValues, 0, i);
+                    System.arraycopy(values, i + 1, newValues, i, newValues.length - i);
+                    return new Entry(hash, newKeys, newValues);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands one at a time on a dedicated background thread, so that a slow command does not hold up the
+ * thread that asked for it, and reports how each command ended to its {@link Listener} through the listener executor.
+ * Tasks handed to the runner as an {@code Executor} run on the same thread, after the commands before them, so
+ * commands from every source can go through one runner without ever overlapping.
+ *
+ * A command can be cancelled. One that has not started yet is skipped, and is reported as cancelled straight away.
+ * One that is running has its thread interrupted, which commands that can take long notice at a point where stopping
+ * leaves the model unchanged (see {@link seedu.address.logic.commands.Command}). A command that finishes before it
+ * notices is reported as having finished.
+ */
+public class CommandRunner implements Executor {
+
+    public static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final Executor listenerExecutor;
+    private final ExecutorService commandExecutor;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic} and calls their listeners on
+     * {@code listenerExecutor}, such as {@code Platform::runLater}.
+     */
+    public CommandRunner(Logic logic, Executor listenerExecutor) {
+        requireAllNonNull(logic, listenerExecutor);
+        this.logic = logic;
+        this.listenerExecutor = listenerExecutor;
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CommandRunner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts executing {@code commandText} once the commands and tasks handed to this runner before it have finished.
+     *
+     * @return the execution of the command, which can be used to cancel it.
+     */
+    public Execution run(String commandText, Listener listener) {
+        requireAllNonNull(commandText, listener);
+        Execution execution = new Execution(commandText, listener);
+        commandExecutor.execute(execution::run);
+        return execution;
+    }
+
+    /**
+     * Runs {@code task} on the command thread once the commands and tasks handed to this runner before it have
+     * finished.
+     */
+    @Override
+    public void execute(Runnable task) {
+        commandExecutor.execute(task);
+    }
+
+    /**
+     * Stops accepting commands, and waits up to {@code timeoutMillis} for the ones already handed to this runner to
+     * finish.
+     *
+     * @return whether they all finished in time.
+     */
+    public boolean shutdown(long timeoutMillis) throws InterruptedException {
+        commandExecutor.shutdown();
+        return commandExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private enum State {
+        WAITING, RUNNING, FINISHED
+    }
+
+    /**
+     * The execution of one command, which can be cancelled from any thread.
+     */
+    public class Execution {
+        private final String commandText;
+        private final Listener listener;
+
+        // Guarded by this
+        private State state = State.WAITING;
+        private Thread thread;
+        private boolean isCancelRequested;
+
+        private Execution(String commandText, Listener listener) {
+            this.commandText = commandText;
+            this.listener = listener;
+        }
+
+        /**
+         * Cancels the command. Does nothing if the command has finished or has already been cancelled.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (state == State.FINISHED || isCancelRequested) {
+                    return;
+                }
+                isCancelRequested = true;
+                if (state == State.RUNNING) {
+                    logger.info("Cancelling command: " + commandText);
+                    thread.interrupt();
+                    return;
+                }
+                state = State.FINISHED;
+            }
+            logger.info("Skipping cancelled command: " + commandText);
+            listenerExecutor.execute(listener::commandCancelled);
+        }
+
+        private void run() {
+            synchronized (this) {
+                if (state != State.WAITING) {
+                    return;
+                }
+                state = State.RUNNING;
+                thread = Thread.currentThread();
+            }
+
+            Runnable report;
+            boolean hasFailed = false;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                report = () -> listener.commandSucceeded(commandResult);
+            } catch (CommandException | ParseException e) {
+                hasFailed = true;
+                report = () -> listener.commandFailed(e.getMessage());
+            } catch (RuntimeException | AssertionError e) {
+                logger.severe("Command failed unexpectedly: " + commandText + StringUtil.getDetails(e));
+                String message = String.format(MESSAGE_UNEXPECTED_ERROR, e);
+                report = () -> listener.commandFailed(message);
+            }
+
+            boolean wasCancelled;
+            synchronized (this) {
+                state = State.FINISHED;
+                thread = null;
+                // A command that finished before it noticed the interrupt is reported as it ended
+                wasCancelled = isCancelRequested && hasFailed;
+            }
+            // Clears an interrupt that the command did not notice, so that it cannot affect the next command
+            Thread.interrupted();
+            listenerExecutor.execute(wasCancelled ? listener::commandCancelled : report);
+        }
+    }
+
+    /**
+     * Receives how a command ended, on the listener executor.
+     */
+    public interface Listener {
+        /**
+         * Called when the command has been executed.
+         */
+        void commandSucceeded(CommandResult commandResult);
+
+        /**
+         * Called when the command could not be parsed or executed, with the error message to show.
+         */
+        void commandFailed(String message);
+
+        /**
+         * Called when the command has been cancelled before it changed anything.
+         */
+        void commandCancelled();
+    }
+}
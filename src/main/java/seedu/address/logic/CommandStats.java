@@ -0,0 +1,78 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * The time taken by each phase of the commands executed, kept per command word.
+ */
+public class CommandStats {
+
+    /**
+     * A phase of the handling of a command.
+     * {@code SAVE} is the writing of the data file in the background. Saves that are combined into one write are
+     * recorded once, for the command whose data was written.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE;
+
+        /**
+         * Returns the name of the phase as shown to the user.
+         */
+        public String display() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<String, LatencyHistogram[]> histogramsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Records that the {@code phase} of a command with the given {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histogramsByCommandWord.computeIfAbsent(commandWord, unused -> createHistograms())[phase.ordinal()]
+                .record(nanos);
+    }
+
+    /**
+     * Returns the command words that have been recorded, in alphabetical order.
+     */
+    public SortedSet<String> getCommandWords() {
+        return new TreeSet<>(histogramsByCommandWord.keySet());
+    }
+
+    /**
+     * Returns the durations recorded for the {@code phase} of commands with the given {@code commandWord}, if any
+     * were recorded.
+     */
+    public Optional<LatencyHistogram> getHistogram(String commandWord, Phase phase) {
+        requireNonNull(phase);
+        return Optional.ofNullable(histogramsByCommandWord.get(commandWord))
+                .map(histograms -> histograms[phase.ordinal()])
+                .filter(histogram -> histogram.getCount() > 0);
+    }
+
+    /**
+     * Forgets all durations recorded so far.
+     */
+    public void reset() {
+        histogramsByCommandWord.clear();
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+}
@@ -23,6 +23,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the time taken by the commands executed so far.
+     */
+    CommandStats getCommandStats();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,6 +35,14 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a snapshot of the AddressBook as it was after the latest change, which later commands do not change.
+     * Unlike the other methods, this can be called from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -3,11 +3,13 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStats.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -31,6 +33,7 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final CommandStats commandStats = new CommandStats();
     private final AddressBookParser addressBookParser;
 
     /**
@@ -39,33 +42,73 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandStats);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        long startTime = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = getCommandWord(commandText);
+        long parsedTime = System.nanoTime();
+        commandStats.record(commandWord, Phase.PARSE, parsedTime - startTime);
 
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            commandStats.record(commandWord, Phase.EXECUTE, System.nanoTime() - parsedTime);
+        }
+
+        // The data file is written on the saving thread, which records how long the write took
+        storage.saveAddressBookInBackground(model.getAddressBookSnapshot(),
+                nanos -> commandStats.record(commandWord, Phase.SAVE, nanos));
+
+        // Saves are written in the background, so a failed save is reported with the next command instead
+        Optional<IOException> saveFailure = storage.takeBackgroundSaveFailure();
+        if (saveFailure.isPresent()) {
+            commandResult = commandResult.withAdditionalFeedback(getSaveErrorMessage(saveFailure.get()));
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the command word of {@code commandText}, which has been parsed successfully.
+     */
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end);
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public CommandStats getCommandStats() {
+        return commandStats;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -19,6 +19,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_COMMAND_CANCELLED = "The command was cancelled.";
 
     /**
      * Returns a message indicating the number of persons listed with correct
@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of running a script with a {@link ScriptRunner}.
+ */
+public class ScriptResult {
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$.3f s (%3$.0f commands/s): "
+            + "%4$d succeeded, %5$d failed.";
+
+    private final int commandCount;
+    private final int failureCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a {@code ScriptResult} of {@code commandCount} commands, of which {@code failureCount} failed, that
+     * took {@code elapsedNanos} nanoseconds to run and save.
+     */
+    public ScriptResult(int commandCount, int failureCount, long elapsedNanos) {
+        this.commandCount = commandCount;
+        this.failureCount = failureCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MESSAGE_SUMMARY, commandCount, elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+                getThroughput(), commandCount - failureCount, failureCount);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands, one per line, against a model without a UI.
+ * Unlike {@link LogicManager}, which saves after every command, the address book is saved only every so many
+ * commands and once at the end, so that a long script costs little more than its commands.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. A line that fails is reported and the
+ * script carries on with the next line, even if the command failed unexpectedly. An exit command ends the script
+ * early. The address book is saved at the end even if the script cannot be read to the end.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int saveInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands against {@code model} and saves it to {@code storage} after
+     * every {@code saveInterval} commands, or only at the end if {@code saveInterval} is zero.
+     */
+    public ScriptRunner(Model model, Storage storage, int saveInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(saveInterval >= 0, "The save interval must not be negative.");
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Runs the commands in {@code script} and saves the address book, reporting each line that fails to
+     * {@code errorReporter}.
+     * @throws IOException if the script cannot be read or the address book cannot be saved.
+     */
+    public ScriptResult run(BufferedReader script, Consumer<String> errorReporter) throws IOException {
+        requireAllNonNull(script, errorReporter);
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                CommandResult commandResult;
+                try {
+                    Command command = addressBookParser.parseCommand(commandText);
+                    commandResult = command.execute(model);
+                } catch (ParseException | CommandException e) {
+                    failureCount++;
+                    errorReporter.accept(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                    continue;
+                } catch (RuntimeException | AssertionError e) {
+                    logger.severe("Command failed unexpectedly: " + commandText + StringUtil.getDetails(e));
+                    failureCount++;
+                    String message = String.format(CommandRunner.MESSAGE_UNEXPECTED_ERROR, e);
+                    errorReporter.accept(String.format(MESSAGE_LINE_FAILED, lineNumber, message));
+                    continue;
+                }
+
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    storage.saveAddressBook(model.getAddressBook());
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            }
+        } finally {
+            // Keeps the commands that did run even if the script could not be read to the end
+            storage.saveAddressBook(model.getAddressBook());
+        }
+
+        ScriptResult result = new ScriptResult(commandCount, failureCount, System.nanoTime() - startTime);
+        logger.info(result.toString());
+        return result;
+    }
+}
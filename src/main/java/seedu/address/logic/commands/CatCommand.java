@@ -2,15 +2,19 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.CategoryMatchesPredicate;
+import seedu.address.model.person.PersonId;
 
 /**
  * Finds and lists all persons in address book whose categories contain the
  * specified category.
  * Category matching is case insensitive.
+ * The persons in the category are looked up in the model's category index rather than by testing every person.
  */
 public class CatCommand extends Command {
 
@@ -31,7 +35,9 @@ public class CatCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<PersonId> matchingIds = model.findPersonIdsByCategory(predicate.getCategory());
+        // The predicate only runs on the matches, and hides persons that are edited out of the category
+        model.updateFilteredPersonList(person -> matchingIds.contains(person.getId()) && predicate.test(person));
         int count = model.getFilteredPersonList().size();
         String message = Messages.getPersonsListedMessage(count)
                 + "\nUse the 'list' command to go back and view all contacts.";
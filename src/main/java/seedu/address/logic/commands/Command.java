@@ -5,6 +5,8 @@ import seedu.address.model.Model;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
+ * A command that can take long may stop early when its thread is interrupted, by throwing a {@code CommandException}
+ * with {@link seedu.address.logic.Messages#MESSAGE_COMMAND_CANCELLED} before it has changed the model.
  */
 public abstract class Command {
 
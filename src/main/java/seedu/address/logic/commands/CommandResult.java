@@ -36,6 +36,14 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code message} added on a new line after the feedback.
+     */
+    public CommandResult withAdditionalFeedback(String message) {
+        requireNonNull(message);
+        return new CommandResult(feedbackToUser + "\n" + message, showHelp, exit);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.BookingConflict;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Lists every vendor that is linked to more than one client with a wedding on the same date.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists every vendor that is linked to more than one "
+            + "client with a wedding on the same date, together with those clients.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_CONFLICTS = "No vendor is double-booked.";
+    public static final String MESSAGE_CONFLICTS = "%1$d double bookings found:";
+    public static final String MESSAGE_CONFLICT = "%1$s: %2$s is booked for the weddings of %3$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<BookingConflict> conflicts = model.getBookingConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        Set<PersonId> involvedIds = new HashSet<>();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CONFLICTS, conflicts.size()));
+        for (BookingConflict conflict : conflicts) {
+            message.append("\n  ").append(String.format(MESSAGE_CONFLICT, conflict.getDate(),
+                    conflict.getVendor().getName(), conflict.getClients().stream()
+                            .map(client -> client.getName().toString())
+                            .collect(Collectors.joining(", "))));
+            involvedIds.add(conflict.getVendor().getId());
+            conflict.getClients().forEach(client -> involvedIds.add(client.getId()));
+        }
+
+        model.updateFilteredPersonList(person -> involvedIds.contains(person.getId()));
+        message.append("\n").append(Messages.getPersonsListedMessage(model.getFilteredPersonList().size()))
+                .append("\nUse the 'list' command to go back and view all contacts.");
+        return new CommandResult(message.toString());
+    }
+}
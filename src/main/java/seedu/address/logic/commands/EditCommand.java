@@ -32,6 +32,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Partner;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.PersonType;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
@@ -103,20 +104,7 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        // Replace the edited person, preserving their links on the edited instance
         model.setPerson(personToEdit, editedPerson);
-
-        // Update all counterparts that previously linked to the old person to now link
-        // to the edited one
-        for (Person other : model.getAddressBook().getPersonList()) {
-            if (other.equals(editedPerson)) {
-                continue;
-            }
-            if (other.isLinkedTo(personToEdit)) {
-                Person updatedOther = replaceLink(other, personToEdit, editedPerson);
-                model.setPerson(other, updatedOther);
-            }
-        }
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -175,53 +163,15 @@ public class EditCommand extends Command {
             throw new CommandException(Person.MSG_MAX_ONE_CATEGORY_FOR_VENDOR);
         }
 
-        java.util.Set<Person> existingLinks = new java.util.HashSet<>(personToEdit.getLinkedPersons());
-
+        // The edited person keeps the id of the original, so links to it stay valid
+        PersonId unchangedId = personToEdit.getId();
         if (unchangedType == PersonType.VENDOR) {
-            // Preserve links for vendor
-            return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, unchangedType, updatedCategories,
-                    existingLinks, updatedPrice);
-        } else {
-            // Preserve links and budget/partner for client
-            return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedWeddingDate,
-                    unchangedType, updatedCategories, existingLinks, updatedPrice, updatedBudget, updatedPartner);
-        }
-    }
-
-    /**
-     * Returns a copy of {@code original} where {@code oldLink} in its link set is replaced with {@code newLink}.
-     * Preserves all other fields as-is.
-     */
-    private static Person replaceLink(Person original, Person oldLink, Person newLink) {
-        java.util.Set<Person> updatedLinks = new java.util.HashSet<>(original.getLinkedPersons());
-        updatedLinks.remove(oldLink);
-        updatedLinks.add(newLink);
-
-        if (original.getType() == PersonType.VENDOR) {
-            return new Person(
-                    original.getName(),
-                    original.getPhone(),
-                    original.getEmail(),
-                    original.getAddress(),
-                    original.getType(),
-                    original.getCategories(),
-                    updatedLinks,
-                    original.getPrice().orElse(null)
-            );
+            return new Person(unchangedId, updatedName, updatedPhone, updatedEmail, updatedAddress, unchangedType,
+                    updatedCategories, updatedPrice);
         } else {
-            return new Person(
-                    original.getName(),
-                    original.getPhone(),
-                    original.getEmail(),
-                    original.getAddress(),
-                    original.getWeddingDate().orElse(null),
-                    original.getType(),
-                    original.getCategories(),
-                    updatedLinks,
-                    original.getPrice().orElse(null),
-                    original.getBudget().orElse(null),
-                    original.getPartner()
-            );
+            // Preserve budget/partner for client
+            return new Person(unchangedId, updatedName, updatedPhone, updatedEmail, updatedAddress, updatedWeddingDate,
+                    unchangedType, updatedCategories, updatedPrice, updatedBudget, updatedPartner);
         }
     }
 
@@ -2,14 +2,18 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameStartsWithPredicate;
+import seedu.address.model.person.PersonId;
 
 /**
  * Finds and lists all persons whose names contain a word that starts with the given query
  * (case-insensitive). Also matches a CLIENT's partner name.
+ * The matching persons are looked up in the model's name index rather than by testing every person's name.
  */
 public class FindCommand extends Command {
 
@@ -43,7 +47,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<PersonId> matchingIds = model.findPersonIdsByNamePrefix(predicate.getQuery());
+        // The predicate only runs on the matches, and hides persons that are edited to no longer match
+        model.updateFilteredPersonList(person -> matchingIds.contains(person.getId()) && predicate.test(person));
         int count = model.getFilteredPersonList().size();
         String message = Messages.getPersonsListedMessage(count)
                 + "\nUse the 'list' command to go back and view all contacts.";
@@ -2,9 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -24,10 +23,13 @@ public class LinkCommand extends Command {
             + ": Links a client to a vendor using their index numbers in the displayed person list.\n"
             + "Parameters: client/CLIENT_INDEX vendor/VENDOR_INDEX "
             + "(both indexes must be positive integers)\n"
+            + "A vendor cannot be linked to two clients whose weddings are on the same date.\n"
             + "Example: " + COMMAND_WORD + " client/3 vendor/5";
 
     public static final String MESSAGE_LINK_SUCCESS = "Link made successfully!";
     public static final String MESSAGE_LINK_ALREADY_EXISTS = "This client and vendor are already linked.";
+    public static final String MESSAGE_DOUBLE_BOOKING = "%1$s is already booked for the wedding of %2$s on %3$s. "
+            + "Unlink them first, or pick another vendor.";
     public static final String MESSAGE_INVALID_CLIENT_INDEX = "Invalid client index. "
             + "It must be a valid number referring to an existing client.";
     public static final String MESSAGE_INVALID_VENDOR_INDEX = "Invalid vendor index. "
@@ -80,54 +82,26 @@ public class LinkCommand extends Command {
         }
 
         // Check if already linked
-        if (client.isLinkedTo(vendor)) {
+        if (model.hasLink(client, vendor)) {
             throw new CommandException(MESSAGE_LINK_ALREADY_EXISTS);
         }
 
-        // Create updated persons with the new links
-        Person updatedClient = createPersonWithLink(client, vendor);
-        Person updatedVendor = createPersonWithLink(vendor, client);
+        // Check if the vendor is already booked on the client's wedding date
+        if (client.getWeddingDate().isPresent()) {
+            List<Person> bookedClients = model.getClientsBookedWith(vendor, client.getWeddingDate().get().getDate());
+            if (!bookedClients.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_DOUBLE_BOOKING, vendor.getName(),
+                        bookedClients.stream().map(person -> person.getName().toString())
+                                .collect(Collectors.joining(", ")),
+                        client.getWeddingDate().get()));
+            }
+        }
 
-        // Update both persons in the model
-        model.setPerson(client, updatedClient);
-        model.setPerson(vendor, updatedVendor);
+        model.addLink(client, vendor);
 
         return new CommandResult(MESSAGE_LINK_SUCCESS);
     }
 
-    /**
-     * Creates a new Person with an additional link to the specified person.
-     */
-    private Person createPersonWithLink(Person person, Person linkedPerson) {
-        Set<Person> updatedLinks = new HashSet<>(person.getLinkedPersons());
-        updatedLinks.add(linkedPerson);
-
-        if (person.getType() == PersonType.VENDOR) {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinks,
-                    person.getPrice().orElse(null));
-        } else {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getWeddingDate().orElse(null),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinks,
-                    person.getPrice().orElse(null),
-                    person.getBudget().orElse(null),
-                    person.getPartner());
-        }
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.match.VendorMatch;
+import seedu.address.model.match.VendorMatcher;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Matches vendors to every client with a budget whose wedding is on or after a date, and summarises the results.
+ * The clients are matched in parallel, and the command can be cancelled by interrupting its thread while they are.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String MESSAGE_SUMMARY = "Vendors that fit the budgets of %1$d upcoming clients:";
+    public static final String MESSAGE_CLIENT_SUMMARY = "%1$s (%2$s): %3$d vendors in %4$d categories";
+    public static final String MESSAGE_NO_CLIENTS = "No upcoming clients with a budget to match.";
+
+    private final LocalDate from;
+
+    /**
+     * Creates a MatchAllCommand that matches the clients whose wedding is on or after {@code from}.
+     */
+    public MatchAllCommand(LocalDate from) {
+        requireNonNull(from);
+        this.from = from;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> clients = model.findPersonIdsByWeddingDate(from, LocalDate.MAX).stream()
+                .map(model::findPersonById)
+                .flatMap(client -> client.stream())
+                .filter(client -> client.getType() == PersonType.CLIENT && client.getBudget().isPresent())
+                .collect(Collectors.toList());
+        if (clients.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLIENTS);
+        }
+
+        Map<Person, Map<String, List<VendorMatch>>> matches;
+        try {
+            matches = new VendorMatcher(model).matchAll(clients);
+        } catch (CancellationException e) {
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED);
+        }
+
+        Set<PersonId> clientIds = new HashSet<>();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUMMARY, clients.size()));
+        matches.forEach((client, groups) -> {
+            long vendorCount = groups.values().stream()
+                    .flatMap(List::stream)
+                    .map(match -> match.getVendor().getId())
+                    .distinct()
+                    .count();
+            message.append("\n  ").append(String.format(MESSAGE_CLIENT_SUMMARY, client.getName(),
+                    client.getWeddingDate().get(), vendorCount, groups.size()));
+            clientIds.add(client.getId());
+        });
+
+        model.updateFilteredPersonList(person -> clientIds.contains(person.getId()));
+        message.append("\n").append(Messages.getPersonsListedMessage(model.getFilteredPersonList().size()))
+                .append("\nUse 'match CLIENT_INDEX' to see the vendors for one client.");
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchAllCommand)) {
+            return false;
+        }
+
+        MatchAllCommand otherMatchAllCommand = (MatchAllCommand) other;
+        return from.equals(otherMatchAllCommand.from);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .toString();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.match.VendorMatch;
+import seedu.address.model.match.VendorMatcher;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
+
+/**
+ * Lists the vendors whose price fits the budget of a client, grouped by category and ranked by fit.
+ */
+public class MatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "match";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the vendors whose price overlaps the budget "
+            + "of the client at the given index, grouped by category, best fit first. Vendors already linked to "
+            + "another client with the same wedding date are left out. Use 'all' instead of an index to match every "
+            + "client with an upcoming wedding.\n"
+            + "Parameters: CLIENT_INDEX (must be a positive integer) or all\n"
+            + "Examples:\n"
+            + "  " + COMMAND_WORD + " 1\n"
+            + "  " + COMMAND_WORD + " all";
+
+    public static final String MESSAGE_NOT_CLIENT = "The person at this index is not a client.";
+    public static final String MESSAGE_NO_BUDGET = "This client has no budget to match vendors against.";
+    public static final String MESSAGE_MATCHES = "Vendors that fit the budget of %1$s (%2$s):";
+    public static final String MESSAGE_NO_MATCHES = "No vendors fit the budget of %1$s (%2$s).";
+
+    private final Index clientIndex;
+
+    /**
+     * Creates a MatchCommand to match vendors to the client at {@code clientIndex} in the filtered person list.
+     */
+    public MatchCommand(Index clientIndex) {
+        requireNonNull(clientIndex);
+        this.clientIndex = clientIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (clientIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person client = lastShownList.get(clientIndex.getZeroBased());
+        if (client.getType() != PersonType.CLIENT) {
+            throw new CommandException(MESSAGE_NOT_CLIENT);
+        }
+        if (client.getBudget().isEmpty()) {
+            throw new CommandException(MESSAGE_NO_BUDGET);
+        }
+
+        Map<String, List<VendorMatch>> matches = new VendorMatcher(model).match(client);
+        String budget = client.getBudget().get().toString();
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCHES, client.getName(), budget));
+        }
+
+        Set<PersonId> vendorIds = new HashSet<>();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_MATCHES, client.getName(), budget));
+        matches.forEach((category, vendors) -> {
+            message.append("\n  ").append(category).append(": ").append(vendors.stream()
+                    .map(match -> match.getVendor().getName() + " (" + match.getVendor().getPrice().get() + ")")
+                    .collect(Collectors.joining(", ")));
+            vendors.forEach(match -> vendorIds.add(match.getVendor().getId()));
+        });
+
+        model.updateFilteredPersonList(person -> vendorIds.contains(person.getId()));
+        message.append("\n").append(Messages.getPersonsListedMessage(model.getFilteredPersonList().size()))
+                .append("\nUse the 'list' command to go back and view all contacts.");
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchCommand)) {
+            return false;
+        }
+
+        MatchCommand otherMatchCommand = (MatchCommand) other;
+        return clientIndex.equals(otherMatchCommand.clientIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clientIndex", clientIndex)
+                .toString();
+    }
+}
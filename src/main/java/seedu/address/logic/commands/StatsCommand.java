@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.SortedSet;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.CommandStats.Phase;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands executed so far took to parse, execute and save, or forgets those durations.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String RESET_ARGUMENT = "reset";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each kind of command has taken to "
+            + "parse, execute and save since the app started or the statistics were last reset.\n"
+            + "Parameters: [" + RESET_ARGUMENT + "]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + RESET_ARGUMENT;
+
+    public static final String MESSAGE_NO_STATS = "No commands have been timed yet.";
+    public static final String MESSAGE_STATS = "Command times in milliseconds:";
+    public static final String MESSAGE_PHASE_STATS = "%1$s %2$s: count %3$d, p50 %4$.3f, p95 %5$.3f, p99 %6$.3f, "
+            + "max %7$.3f";
+    public static final String MESSAGE_RESET = "Command timing statistics have been reset.";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final CommandStats commandStats;
+    private final boolean isReset;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the durations in {@code commandStats}, or forgets them if
+     * {@code isReset} is true.
+     */
+    public StatsCommand(CommandStats commandStats, boolean isReset) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+        this.isReset = isReset;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isReset) {
+            commandStats.reset();
+            return new CommandResult(MESSAGE_RESET);
+        }
+
+        SortedSet<String> commandWords = commandStats.getCommandWords();
+        if (commandWords.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_STATS);
+        for (String commandWord : commandWords) {
+            for (Phase phase : Phase.values()) {
+                Optional<LatencyHistogram> histogram = commandStats.getHistogram(commandWord, phase);
+                histogram.ifPresent(h -> message.append("\n  ").append(String.format(MESSAGE_PHASE_STATS,
+                        commandWord, phase.display(), h.getCount(), toMillis(h.getNanosAtPercentile(50)),
+                        toMillis(h.getNanosAtPercentile(95)), toMillis(h.getNanosAtPercentile(99)),
+                        toMillis(h.getMaxNanos()))));
+            }
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandStats == otherStatsCommand.commandStats && isReset == otherStatsCommand.isReset;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .toString();
+    }
+}
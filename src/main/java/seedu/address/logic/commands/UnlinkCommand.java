@@ -2,9 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -80,54 +78,15 @@ public class UnlinkCommand extends Command {
         }
 
         // Check if they are linked
-        if (!client.isLinkedTo(vendor)) {
+        if (!model.hasLink(client, vendor)) {
             throw new CommandException(MESSAGE_LINK_DOES_NOT_EXIST);
         }
 
-        // Create updated persons without the links
-        Person updatedClient = createPersonWithoutLink(client, vendor);
-        Person updatedVendor = createPersonWithoutLink(vendor, client);
-
-        // Update both persons in the model
-        model.setPerson(client, updatedClient);
-        model.setPerson(vendor, updatedVendor);
+        model.removeLink(client, vendor);
 
         return new CommandResult(MESSAGE_UNLINK_SUCCESS);
     }
 
-    /**
-     * Creates a new Person with the link to the specified person removed.
-     */
-    private Person createPersonWithoutLink(Person person, Person linkedPerson) {
-        Set<Person> updatedLinks = new HashSet<>(person.getLinkedPersons());
-        updatedLinks.remove(linkedPerson);
-
-        if (person.getType() == PersonType.VENDOR) {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinks,
-                    person.getPrice().orElse(null));
-        } else {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getWeddingDate().orElse(null),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinks,
-                    person.getPrice().orElse(null),
-                    person.getBudget().orElse(null),
-                    person.getPartner());
-        }
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
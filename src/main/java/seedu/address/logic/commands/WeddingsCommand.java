@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.WeddingDateInRangePredicate;
+
+/**
+ * Lists all persons whose wedding date falls in a date window.
+ * The weddings in the window are looked up in the model's wedding date index rather than by testing every person,
+ * and are listed by date, earliest first.
+ */
+public class WeddingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "weddings";
+
+    public static final int DEFAULT_DAYS = 30;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all clients whose wedding is today or in "
+            + "the next DAYS days (" + DEFAULT_DAYS + " if omitted), or between two dates (both inclusive).\n"
+            + "Parameters: [DAYS] or FROM_DATE TO_DATE\n"
+            + "Examples:\n"
+            + "  " + COMMAND_WORD + "\n"
+            + "  " + COMMAND_WORD + " 7\n"
+            + "  " + COMMAND_WORD + " 01-06-2026 31-08-2026";
+
+    public static final String MESSAGE_WINDOW = "Weddings from %1$s to %2$s.";
+
+    // Only persons in the window, who all have a wedding date, are compared
+    private static final Comparator<Person> BY_WEDDING_DATE =
+            Comparator.comparing(person -> person.getWeddingDate().get().getDate());
+
+    private final WeddingDateInRangePredicate predicate;
+
+    public WeddingsCommand(WeddingDateInRangePredicate predicate) {
+        this.predicate = requireNonNull(predicate);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<PersonId> matchingIds = model.findPersonIdsByWeddingDate(predicate.getFrom(), predicate.getTo());
+        // The predicate only runs on the matches, and hides persons whose wedding is moved out of the window
+        model.updateFilteredPersonList(person -> matchingIds.contains(person.getId()) && predicate.test(person),
+                BY_WEDDING_DATE);
+        int count = model.getFilteredPersonList().size();
+        String message = Messages.getPersonsListedMessage(count)
+                + "\n" + String.format(MESSAGE_WINDOW,
+                        WeddingDate.formatDayMonthYear(predicate.getFrom()),
+                        WeddingDate.formatDayMonthYear(predicate.getTo()))
+                + "\nUse the 'list' command to go back and view all contacts.";
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingsCommand)) {
+            return false;
+        }
+
+        WeddingsCommand otherWeddingsCommand = (WeddingsCommand) other;
+        return predicate.equals(otherWeddingsCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -8,10 +9,12 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CatCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
@@ -19,7 +22,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnlinkCommand;
+import seedu.address.logic.commands.WeddingsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -33,6 +39,19 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandStats commandStats;
+
+    public AddressBookParser() {
+        this(new CommandStats());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose stats commands show or reset {@code commandStats}.
+     */
+    public AddressBookParser(CommandStats commandStats) {
+        this.commandStats = requireNonNull(commandStats);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -53,7 +72,7 @@ public class AddressBookParser {
         // (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -75,12 +94,24 @@ public class AddressBookParser {
         case CatCommand.COMMAND_WORD:
             return new CatCommandParser().parse(arguments);
 
+        case WeddingsCommand.COMMAND_WORD:
+            return new WeddingsCommandParser().parse(arguments);
+
+        case MatchCommand.COMMAND_WORD:
+            return new MatchCommandParser().parse(arguments);
+
         case LinkCommand.COMMAND_WORD:
             return new LinkCommandParser().parse(arguments);
 
         case UnlinkCommand.COMMAND_WORD:
             return new UnlinkCommandParser().parse(arguments);
 
+        case ConflictsCommand.COMMAND_WORD:
+            return new ConflictsCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser(commandStats).parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -91,7 +122,7 @@ public class AddressBookParser {
             return new HelpCommand();
 
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.MatchAllCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MatchCommand, or a MatchAllCommand for the argument {@code all}.
+ */
+public class MatchCommandParser implements Parser<Command> {
+
+    public static final String ALL_CLIENTS = "all";
+
+    private final Clock clock;
+
+    public MatchCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code MatchCommandParser} where upcoming weddings are those on or after the current date of
+     * {@code clock}.
+     */
+    public MatchCommandParser(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MatchCommand
+     * and returns a MatchCommand or MatchAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || trimmedArgs.split("\\s+").length > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE));
+        }
+        if (trimmedArgs.equalsIgnoreCase(ALL_CLIENTS)) {
+            return new MatchAllCommand(LocalDate.now(clock));
+        }
+
+        try {
+            return new MatchCommand(ParserUtil.parseIndex(trimmedArgs));
+        } catch (ParseException pe) {
+            if (ParserUtil.MESSAGE_INVALID_INDEX.equals(pe.getMessage())) {
+                throw new ParseException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, pe);
+            }
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.WeddingsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.WeddingDateInRangePredicate;
+
+/**
+ * Parses input arguments and creates a new WeddingsCommand object
+ */
+public class WeddingsCommandParser implements Parser<WeddingsCommand> {
+
+    public static final String MESSAGE_INVALID_DAYS = "DAYS must be a whole number from 0 to %1$d.";
+    public static final String MESSAGE_INVALID_WINDOW = "FROM_DATE must not be after TO_DATE.";
+
+    public static final int MAX_DAYS = 36500;
+
+    private final Clock clock;
+
+    public WeddingsCommandParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code WeddingsCommandParser} that counts days from the current date of {@code clock}.
+     */
+    public WeddingsCommandParser(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WeddingsCommand
+     * and returns a WeddingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WeddingsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String[] parts = trimmedArgs.isEmpty() ? new String[0] : trimmedArgs.split("\\s+");
+
+        switch (parts.length) {
+        case 0:
+            return upcoming(WeddingsCommand.DEFAULT_DAYS);
+
+        case 1:
+            return upcoming(parseDays(parts[0]));
+
+        case 2:
+            LocalDate from = ParserUtil.parseWeddingDate(parts[0]).getDate();
+            LocalDate to = ParserUtil.parseWeddingDate(parts[1]).getDate();
+            if (from.isAfter(to)) {
+                throw new ParseException(MESSAGE_INVALID_WINDOW);
+            }
+            return new WeddingsCommand(new WeddingDateInRangePredicate(from, to));
+
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WeddingsCommand.MESSAGE_USAGE));
+        }
+    }
+
+    private WeddingsCommand upcoming(int days) {
+        LocalDate today = LocalDate.now(clock);
+        return new WeddingsCommand(new WeddingDateInRangePredicate(today, today.plusDays(days)));
+    }
+
+    private static int parseDays(String days) throws ParseException {
+        if (!days.matches("\\d{1,9}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WeddingsCommand.MESSAGE_USAGE));
+        }
+        int parsed = Integer.parseInt(days);
+        if (parsed > MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DAYS, MAX_DAYS));
+        }
+        return parsed;
+    }
+}
@@ -1,21 +1,46 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.BookingConflict;
+import seedu.address.model.person.BookingIndex;
+import seedu.address.model.person.LinkGraph;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison based on phone number)
+ *
+ * An address book must only be changed from one thread at a time. Every change publishes a new
+ * {@link AddressBookSnapshot} when it is complete, which other threads can read through {@link #getSnapshot()} without
+ * locking and without ever seeing a change half made.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final LinkGraph links;
+    private final BookingIndex bookings;
+    private long version;
+    // Replaced whenever all the persons are, as the snapshots taken before and after that cannot be compared cheaply
+    private Object lineage = new Object();
+    private volatile AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +51,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        links = new LinkGraph();
+        bookings = new BookingIndex();
+        publishSnapshot();
     }
 
     public AddressBook() {}
@@ -41,11 +69,48 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons} and removes all links.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        replaceAllPersons(persons);
+        publishSnapshot();
+    }
+
+    private void replaceAllPersons(List<Person> persons) {
+        lineage = new Object();
+        this.persons.setPersons(persons);
+        links.clear();
+        bookings.clear();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, linking each person to the persons whose ids
+     * are listed for it in {@code linkedIds}.
+     * This is the bulk counterpart of repeated {@link #addPerson} and {@link #addLink} calls: uniqueness is checked by
+     * hashing, links are added straight into the link graph and the list is published with one change notification.
+     * Ids in {@code linkedIds} that do not belong to any person in {@code persons} are ignored.
+     *
+     * @throws DuplicatePersonException if two persons in {@code persons} share an id or a phone number.
+     */
+    public void loadPersons(List<Person> persons, Map<PersonId, ? extends Collection<PersonId>> linkedIds) {
+        requireAllNonNull(persons, linkedIds);
+
+        lineage = new Object();
         this.persons.setPersons(persons);
+        links.clear();
+        linkedIds.forEach((id, linked) -> {
+            if (this.persons.findById(id).isEmpty()) {
+                return;
+            }
+            for (PersonId linkedId : linked) {
+                if (this.persons.findById(linkedId).isPresent() && !linkedId.equals(id)) {
+                    links.link(id, linkedId);
+                }
+            }
+        });
+        rebuildBookings();
+        publishSnapshot();
     }
 
     /**
@@ -54,7 +119,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        replaceAllPersons(newData.getPersonList());
+        for (Person person : newData.getPersonList()) {
+            for (Person linkedPerson : newData.getLinkedPersons(person)) {
+                links.link(person.getId(), linkedPerson.getId());
+            }
+        }
+        rebuildBookings();
+        publishSnapshot();
     }
 
     //// person-level operations
@@ -67,134 +139,281 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given id, if any.
+     */
+    public Optional<Person> findPersonById(PersonId id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the person with the given phone number, if any.
+     */
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the ids of the persons whose name, or partner name for a CLIENT, contains a word that starts with
+     * {@code query}, ignoring case.
+     */
+    public Set<PersonId> findPersonIdsByNamePrefix(String query) {
+        requireNonNull(query);
+        return persons.findIdsByNamePrefix(query);
+    }
+
+    /**
+     * Returns the ids of the persons in {@code category}, ignoring case.
+     */
+    public Set<PersonId> findPersonIdsByCategory(String category) {
+        requireNonNull(category);
+        return persons.findIdsByCategory(category);
+    }
+
+    /**
+     * Returns the number of persons in {@code category}, ignoring case.
+     */
+    public int countPersonsInCategory(String category) {
+        requireNonNull(category);
+        return persons.countByCategory(category);
+    }
+
+    /**
+     * Returns the ids of the persons whose wedding is between {@code from} and {@code to}, both inclusive, in the
+     * order of their wedding dates.
+     */
+    public Set<PersonId> findPersonIdsByWeddingDate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return persons.findIdsByWeddingDate(from, to);
+    }
+
+    /**
+     * Returns the ids of the persons whose price has any amount from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<PersonId> findPersonIdsByPriceOverlapping(long from, long to) {
+        return persons.findIdsByPriceOverlapping(from, to);
+    }
+
+    /**
+     * Returns the ids of the persons whose budget has any amount from {@code from} to {@code to}, both inclusive.
+     */
+    public Set<PersonId> findPersonIdsByBudgetOverlapping(long from, long to) {
+        return persons.findIdsByBudgetOverlapping(from, to);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        publishSnapshot();
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
-     * Also updates all other persons that have {@code target} in their linked persons.
+     * The links of {@code target} are carried over to {@code editedPerson}. As edits keep the id of a person, this does
+     * not touch any other person.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
-
-        persons.setPerson(target, editedPerson);
+        requireAllNonNull(target, editedPerson);
 
-        // Update all persons that have the target in their linkedPersons
-        updateLinkedPersonReferences(target, editedPerson);
+        // A single edit is the common case, so it skips the bookkeeping that a batch of replacements needs
+        boolean isRebooked = isBookingChanged(target, editedPerson);
+        if (isRebooked) {
+            updateBookings(target, false);
+        }
+        try {
+            persons.setPerson(target, editedPerson);
+        } catch (RuntimeException e) {
+            if (isRebooked) {
+                updateBookings(target, true);
+            }
+            throw e;
+        }
+        links.rekey(target.getId(), editedPerson.getId());
+        if (isRebooked) {
+            updateBookings(editedPerson, true);
+        }
+        publishSnapshot();
     }
 
     /**
-     * Updates all persons that have {@code oldPerson} in their linkedPersons to reference {@code newPerson} instead.
+     * Replaces each person in the key set of {@code replacements} with the person it maps to, as one change to the
+     * person list. Every key must exist in the address book, and after the replacements no two persons may be the
+     * same person. Either every replacement is made or, if any cannot be made, the address book is left unchanged.
+     * The links of each replaced person are carried over to its replacement.
      */
-    private void updateLinkedPersonReferences(Person oldPerson, Person newPerson) {
-        List<Person> personList = persons.asUnmodifiableObservableList();
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
 
-        for (Person person : personList) {
-            // Skip the person we just updated
-            if (person.isSamePerson(newPerson)) {
-                continue;
+        List<Map.Entry<Person, Person>> rebooked = new ArrayList<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            if (isBookingChanged(replacement.getKey(), replacement.getValue())) {
+                rebooked.add(replacement);
             }
+        }
 
-            // Check if this person has the old person in their linked persons
-            if (person.getLinkedPersons().stream().anyMatch(p -> p.isSamePerson(oldPerson))) {
-                // Create a new set with the updated reference
-                java.util.Set<Person> updatedLinkedPersons = new java.util.HashSet<>();
-                for (Person linkedPerson : person.getLinkedPersons()) {
-                    if (linkedPerson.isSamePerson(oldPerson)) {
-                        updatedLinkedPersons.add(newPerson);
-                    } else {
-                        updatedLinkedPersons.add(linkedPerson);
-                    }
-                }
+        rebooked.forEach(replacement -> updateBookings(replacement.getKey(), false));
+        try {
+            persons.replacePersons(replacements);
+        } catch (RuntimeException e) {
+            rebooked.forEach(replacement -> updateBookings(replacement.getKey(), true));
+            throw e;
+        }
+        replacements.forEach((target, editedPerson) -> links.rekey(target.getId(), editedPerson.getId()));
+        rebooked.forEach(replacement -> updateBookings(replacement.getValue(), true));
+        publishSnapshot();
+    }
 
-                // Create updated person with new linked persons
-                Person updatedPerson = createPersonWithUpdatedLinks(person, updatedLinkedPersons);
-                persons.setPerson(person, updatedPerson);
-            }
+    /**
+     * Removes {@code key} from this {@code AddressBook}.
+     * {@code key} must exist in the address book.
+     * Also removes all links to {@code key}.
+     */
+    public void removePerson(Person key) {
+        persons.remove(key);
+        updateBookings(key, false);
+        links.removeAll(key.getId());
+        publishSnapshot();
+    }
+
+    //// link-level operations
+
+    /**
+     * Returns true if {@code first} and {@code second} are linked.
+     */
+    public boolean hasLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        return links.isLinked(first.getId(), second.getId());
+    }
+
+    /**
+     * Links {@code first} and {@code second}.
+     * Both persons must exist in the address book.
+     */
+    public void addLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        requireExists(first);
+        requireExists(second);
+        if (!links.isLinked(first.getId(), second.getId())) {
+            links.link(first.getId(), second.getId());
+            updateBooking(persons.findById(first.getId()).get(), persons.findById(second.getId()).get(), true);
+            publishSnapshot();
         }
     }
 
     /**
-     * Creates a new Person with updated linked persons, preserving all other fields.
+     * Removes the link between {@code first} and {@code second}, if any.
      */
-    private Person createPersonWithUpdatedLinks(Person person, java.util.Set<Person> updatedLinkedPersons) {
-        if (person.getType() == seedu.address.model.person.PersonType.VENDOR) {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinkedPersons,
-                    person.getPrice().orElse(null)
-            );
-        } else {
-            return new Person(
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getAddress(),
-                    person.getWeddingDate().orElse(null),
-                    person.getType(),
-                    person.getCategories(),
-                    updatedLinkedPersons,
-                    person.getPrice().orElse(null),
-                    person.getBudget().orElse(null),
-                    person.getPartner()
-            );
+    public void removeLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        if (links.isLinked(first.getId(), second.getId())) {
+            updateBooking(persons.findById(first.getId()).get(), persons.findById(second.getId()).get(), false);
+            links.unlink(first.getId(), second.getId());
+            publishSnapshot();
         }
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * {@code key} must exist in the address book.
-     * Also removes the person from all other persons' linked persons.
+     * Returns the snapshot published by the latest change to this address book.
+     * Unlike the other methods, this can be called from any thread, even while the address book is being changed.
      */
-    public void removePerson(Person key) {
-        // First, remove the person from all other persons' linked persons
-        removeLinkedPersonReferences(key);
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
 
-        // Then remove the person from the address book
-        persons.remove(key);
+    private void publishSnapshot() {
+        snapshot = new AddressBookSnapshot(version++, lineage, persons.snapshotList(), persons.snapshotIdIndex(),
+                links.snapshotLinks());
     }
 
     /**
-     * Removes {@code personToRemove} from all other persons' linkedPersons sets.
+     * Returns the clients with a wedding on {@code date} that {@code vendor} is linked to, in the order they were
+     * linked.
      */
-    private void removeLinkedPersonReferences(Person personToRemove) {
-        List<Person> personList = persons.asUnmodifiableObservableList();
+    public List<Person> getClientsBookedWith(Person vendor, LocalDate date) {
+        requireAllNonNull(vendor, date);
+        List<Person> clients = new ArrayList<>();
+        for (PersonId id : bookings.getClients(vendor.getId(), date)) {
+            persons.findById(id).ifPresent(clients::add);
+        }
+        return clients;
+    }
 
-        for (Person person : personList) {
-            // Skip the person we're removing
-            if (person.isSamePerson(personToRemove)) {
-                continue;
+    /**
+     * Returns every vendor that is linked to more than one client with a wedding on the same date, by date.
+     */
+    public List<BookingConflict> getBookingConflicts() {
+        List<BookingConflict> conflicts = new ArrayList<>();
+        bookings.getDoubleBookings().forEach((date, vendorIds) -> {
+            for (PersonId vendorId : vendorIds) {
+                persons.findById(vendorId).ifPresent(vendor ->
+                        conflicts.add(new BookingConflict(vendor, date, getClientsBookedWith(vendor, date))));
             }
+        });
+        return conflicts;
+    }
 
-            // Check if this person has the person to remove in their linked persons
-            if (person.getLinkedPersons().stream().anyMatch(p -> p.isSamePerson(personToRemove))) {
-                // Create a new set without the person to remove
-                java.util.Set<Person> updatedLinkedPersons = new java.util.HashSet<>();
-                for (Person linkedPerson : person.getLinkedPersons()) {
-                    if (!linkedPerson.isSamePerson(personToRemove)) {
-                        updatedLinkedPersons.add(linkedPerson);
-                    }
-                }
+    /**
+     * Books or unbooks, as {@code isBooked} says, the vendor for the wedding of the client if {@code first} and
+     * {@code second} are a client with a wedding date and a vendor, in either order.
+     */
+    private void updateBooking(Person first, Person second, boolean isBooked) {
+        if (first.getType() == PersonType.VENDOR && second.getType() == PersonType.CLIENT) {
+            updateBooking(second, first, isBooked);
+            return;
+        }
+        if (first.getType() != PersonType.CLIENT || second.getType() != PersonType.VENDOR
+                || first.getWeddingDate().isEmpty()) {
+            return;
+        }
+
+        LocalDate date = first.getWeddingDate().get().getDate();
+        if (isBooked) {
+            bookings.book(second.getId(), date, first.getId());
+        } else {
+            bookings.unbook(second.getId(), date, first.getId());
+        }
+    }
 
-                // Create updated person with the removed link
-                Person updatedPerson = createPersonWithUpdatedLinks(person, updatedLinkedPersons);
-                persons.setPerson(person, updatedPerson);
+    /**
+     * Books or unbooks, as {@code isBooked} says, every booking made by the links of {@code person}.
+     */
+    private void updateBookings(Person person, boolean isBooked) {
+        for (PersonId id : links.getLinks(person.getId())) {
+            persons.findById(id).ifPresent(linkedPerson -> updateBooking(person, linkedPerson, isBooked));
+        }
+    }
+
+    /**
+     * Returns true if replacing {@code target} with {@code editedPerson} can change the bookings made by its links.
+     */
+    private static boolean isBookingChanged(Person target, Person editedPerson) {
+        return !target.getId().equals(editedPerson.getId())
+                || target.getType() != editedPerson.getType()
+                || !target.getWeddingDate().equals(editedPerson.getWeddingDate());
+    }
+
+    private void rebuildBookings() {
+        bookings.clear();
+        for (Person person : persons.asUnmodifiableObservableList()) {
+            if (person.getType() == PersonType.CLIENT) {
+                updateBookings(person, true);
             }
         }
     }
 
+    private void requireExists(Person person) {
+        if (persons.findById(person.getId()).isEmpty()) {
+            throw new PersonNotFoundException();
+        }
+    }
+
     //// util methods
 
     @Override
@@ -209,6 +428,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Person> getLinkedPersons(Person person) {
+        requireNonNull(person);
+        List<Person> linkedPersons = new ArrayList<>();
+        for (PersonId id : links.getLinks(person.getId())) {
+            persons.findById(id).ifPresent(linkedPersons::add);
+        }
+        return linkedPersons;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -221,7 +450,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && links.equals(otherAddressBook.links);
     }
 
     @Override
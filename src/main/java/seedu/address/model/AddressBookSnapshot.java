@@ -0,0 +1,173 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentMap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The persons and links of an {@link AddressBook} as they were after one change to it, which no later change affects.
+ * Snapshots share almost all of their data with the snapshots before and after them, so taking one is cheap, and as
+ * they never change they can be read from any thread without locking.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final Object lineage;
+    private final PersistentList<Person> persons;
+    private final PersistentMap<PersonId, Person> personsById;
+    private final PersistentMap<PersonId, PersistentList<PersonId>> links;
+
+    /**
+     * Creates snapshot number {@code version} of an address book with {@code persons}, which are keyed by id in
+     * {@code personsById}, and in which the persons with the ids in {@code links} are linked.
+     * Snapshots with the same {@code lineage} were taken by the same address book with no change in between that
+     * replaced all of its persons.
+     */
+    AddressBookSnapshot(long version, Object lineage, PersistentList<Person> persons,
+            PersistentMap<PersonId, Person> personsById, PersistentMap<PersonId, PersistentList<PersonId>> links) {
+        this.version = version;
+        this.lineage = requireNonNull(lineage);
+        this.persons = requireNonNull(persons);
+        this.personsById = requireNonNull(personsById);
+        this.links = requireNonNull(links);
+    }
+
+    /**
+     * Returns the number of changes that had been made to the address book when this snapshot was taken.
+     * Later snapshots of the same address book have larger versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot was taken after {@code earlier} by the same address book, and only adding,
+     * editing, removing and linking persons one at a time happened in between.
+     * The persons of {@code earlier} that are left are then still in the same order, and the persons added since come
+     * after all of them.
+     */
+    public boolean isEditedFrom(AddressBookSnapshot earlier) {
+        requireNonNull(earlier);
+        return lineage == earlier.lineage && version >= earlier.version;
+    }
+
+    /**
+     * Returns the ids of the persons that were added, edited, removed or linked differently since {@code earlier}.
+     * Only the parts that the two snapshots do not share are compared, so this takes time in proportion to the number
+     * of changes between them rather than to the number of persons.
+     * A person that was replaced by an equal person may be included.
+     */
+    public Set<PersonId> getChangedPersonIds(AddressBookSnapshot earlier) {
+        requireNonNull(earlier);
+        Set<PersonId> changedIds = new HashSet<>();
+        earlier.personsById.forEachChangedKey(personsById, changedIds::add);
+        earlier.links.forEachChangedKey(links, changedIds::add);
+        return changedIds;
+    }
+
+    /**
+     * Returns the person with the given id, if any.
+     */
+    public Optional<Person> findPersonById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return new PersonListView(persons);
+    }
+
+    @Override
+    public List<Person> getLinkedPersons(Person person) {
+        requireNonNull(person);
+        PersistentList<PersonId> linkedIds = links.get(person.getId());
+        if (linkedIds == null) {
+            return new ArrayList<>();
+        }
+        List<Person> linkedPersons = new ArrayList<>(linkedIds.size());
+        for (PersonId id : linkedIds) {
+            Person linkedPerson = personsById.get(id);
+            if (linkedPerson != null) {
+                linkedPersons.add(linkedPerson);
+            }
+        }
+        return linkedPersons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        if (!persons.equals(otherSnapshot.persons)) {
+            return false;
+        }
+        for (Person person : persons) {
+            if (!getLinkedPersons(person).equals(otherSnapshot.getLinkedPersons(person))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+
+    /**
+     * An unmodifiable {@code ObservableList} of the persons in a snapshot, which never changes and so never notifies
+     * its listeners.
+     */
+    private static class PersonListView extends ObservableListBase<Person> {
+        private final PersistentList<Person> persons;
+
+        PersonListView(PersistentList<Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.iterator();
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.BookingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -52,11 +61,73 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the snapshot of the AddressBook published by its latest change, which later changes do not affect.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given id, if any.
+     * This is a constant-time lookup and does not depend on the current filter.
+     */
+    Optional<Person> findPersonById(PersonId id);
+
+    /**
+     * Returns the person with the given phone number, if any.
+     * This is a constant-time lookup and does not depend on the current filter.
+     */
+    Optional<Person> findPersonByPhone(Phone phone);
+
+    /**
+     * Returns the ids of the persons whose name, or partner name for a CLIENT, contains a word that starts with
+     * {@code query}, ignoring case.
+     * This looks up an index of the names, so it only takes time for the matching persons, and does not depend on
+     * the current filter.
+     */
+    Set<PersonId> findPersonIdsByNamePrefix(String query);
+
+    /**
+     * Returns the ids of the persons in {@code category}, ignoring case.
+     * This looks up an index of the categories, so it only takes time for the persons in the category, and does not
+     * depend on the current filter.
+     */
+    Set<PersonId> findPersonIdsByCategory(String category);
+
+    /**
+     * Returns the number of persons in {@code category}, ignoring case, in constant time.
+     */
+    int countPersonsInCategory(String category);
+
+    /**
+     * Returns the ids of the persons whose wedding is between {@code from} and {@code to}, both inclusive, in the
+     * order of their wedding dates.
+     * This looks up a date-ordered index, so it only takes time for the weddings in the window, and does not depend
+     * on the current filter.
+     */
+    Set<PersonId> findPersonIdsByWeddingDate(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the ids of the vendors whose price has any amount from {@code from} to {@code to}, both inclusive, in
+     * ascending order of the lowest amounts of their prices.
+     * This looks up an interval tree of the prices, so it takes logarithmic time plus time for the matches, and does
+     * not depend on the current filter.
+     */
+    Set<PersonId> findPersonIdsByPriceOverlapping(long from, long to);
+
+    /**
+     * Returns the ids of the clients whose budget has any amount from {@code from} to {@code to}, both inclusive, in
+     * ascending order of the lowest amounts of their budgets.
+     * This looks up an interval tree of the budgets, so it takes logarithmic time plus time for the matches, and does
+     * not depend on the current filter.
+     */
+    Set<PersonId> findPersonIdsByBudgetOverlapping(long from, long to);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,12 +147,60 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in the key set of {@code replacements} with the person it maps to.
+     * The person list changes once, with a single change notification, and if any replacement cannot be made the
+     * address book is left unchanged.
+     * Every key must exist in the address book, and after the replacements no two persons may be the same person.
+     */
+    void replacePersons(Map<Person, Person> replacements);
+
+    /**
+     * Returns true if {@code first} and {@code second} are linked.
+     */
+    boolean hasLink(Person first, Person second);
+
+    /**
+     * Links {@code first} and {@code second}.
+     * Both persons must exist in the address book.
+     */
+    void addLink(Person first, Person second);
+
+    /**
+     * Removes the link between {@code first} and {@code second}, if any.
+     */
+    void removeLink(Person first, Person second);
+
+    /**
+     * Returns the persons linked to {@code person}.
+     */
+    List<Person> getLinkedPersons(Person person);
+
+    /**
+     * Returns the clients with a wedding on {@code date} that {@code vendor} is linked to.
+     * This is a constant-time lookup in an index of bookings, not a scan of the links.
+     */
+    List<Person> getClientsBookedWith(Person vendor, LocalDate date);
+
+    /**
+     * Returns every vendor that is linked to more than one client with a wedding on the same date, by date.
+     */
+    List<BookingConflict> getBookingConflicts();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The matching persons are listed in the order of the address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and lists the
+     * matching persons in the order of {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
 }
@@ -4,14 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.BookingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +32,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -29,11 +40,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -87,12 +99,63 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonById(PersonId id) {
+        requireNonNull(id);
+        return addressBook.findPersonById(id);
+    }
+
+    @Override
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonByPhone(phone);
+    }
+
+    @Override
+    public Set<PersonId> findPersonIdsByNamePrefix(String query) {
+        requireNonNull(query);
+        return addressBook.findPersonIdsByNamePrefix(query);
+    }
+
+    @Override
+    public Set<PersonId> findPersonIdsByCategory(String category) {
+        requireNonNull(category);
+        return addressBook.findPersonIdsByCategory(category);
+    }
+
+    @Override
+    public int countPersonsInCategory(String category) {
+        requireNonNull(category);
+        return addressBook.countPersonsInCategory(category);
+    }
+
+    @Override
+    public Set<PersonId> findPersonIdsByWeddingDate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.findPersonIdsByWeddingDate(from, to);
+    }
+
+    @Override
+    public Set<PersonId> findPersonIdsByPriceOverlapping(long from, long to) {
+        return addressBook.findPersonIdsByPriceOverlapping(from, to);
+    }
+
+    @Override
+    public Set<PersonId> findPersonIdsByBudgetOverlapping(long from, long to) {
+        return addressBook.findPersonIdsByBudgetOverlapping(from, to);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -111,6 +174,48 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.replacePersons(replacements);
+    }
+
+    @Override
+    public boolean hasLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        return addressBook.hasLink(first, second);
+    }
+
+    @Override
+    public void addLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        addressBook.addLink(first, second);
+    }
+
+    @Override
+    public void removeLink(Person first, Person second) {
+        requireAllNonNull(first, second);
+        addressBook.removeLink(first, second);
+    }
+
+    @Override
+    public List<Person> getLinkedPersons(Person person) {
+        requireNonNull(person);
+        return addressBook.getLinkedPersons(person);
+    }
+
+    @Override
+    public List<Person> getClientsBookedWith(Person vendor, LocalDate date) {
+        requireAllNonNull(vendor, date);
+        return addressBook.getClientsBookedWith(vendor, date);
+    }
+
+    @Override
+    public List<BookingConflict> getBookingConflicts() {
+        return addressBook.getBookingConflicts();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -119,13 +224,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
     }
 
     @Override
@@ -142,7 +255,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
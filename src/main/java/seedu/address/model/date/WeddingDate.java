@@ -79,6 +79,13 @@ public class WeddingDate {
         return null;
     }
 
+    /**
+     * Returns {@code date} in the DD-MM-YYYY format, the format that dates are usually entered in.
+     */
+    public static String formatDayMonthYear(LocalDate date) {
+        requireNonNull(date);
+        return date.format(DMY_DASH);
+    }
 
     public LocalDate getDate() {
         return value;
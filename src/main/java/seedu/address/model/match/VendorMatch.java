@@ -0,0 +1,77 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A vendor whose price fits a client's budget, with how well it fits.
+ * Guarantees: immutable; the vendor has a price.
+ */
+public class VendorMatch {
+
+    /** Orders matches from the best fit to the worst, then from the cheapest to the most expensive, then by name. */
+    public static final Comparator<VendorMatch> BEST_FIRST = Comparator
+            .comparingDouble((VendorMatch match) -> -match.fit)
+            .thenComparingLong(match -> match.vendor.getPrice().get().getMin())
+            .thenComparing(match -> match.vendor.getName().toString());
+
+    private final Person vendor;
+    private final double fit;
+
+    /**
+     * Creates a match for {@code vendor}, which has a price.
+     *
+     * @param fit the fraction of the vendor's price range that lies within the budget, from 0 to 1.
+     */
+    public VendorMatch(Person vendor, double fit) {
+        requireNonNull(vendor);
+        assert vendor.getPrice().isPresent();
+        assert fit >= 0 && fit <= 1;
+        this.vendor = vendor;
+        this.fit = fit;
+    }
+
+    public Person getVendor() {
+        return vendor;
+    }
+
+    /**
+     * Returns the fraction of the vendor's price range that lies within the budget, from 0 to 1.
+     * A single-amount price within the budget fits fully.
+     */
+    public double getFit() {
+        return fit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VendorMatch)) {
+            return false;
+        }
+
+        VendorMatch otherMatch = (VendorMatch) other;
+        return vendor.equals(otherMatch.vendor) && fit == otherMatch.fit;
+    }
+
+    @Override
+    public int hashCode() {
+        return vendor.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("vendor", vendor.getName())
+                .add("fit", fit)
+                .toString();
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Price;
+
+/**
+ * Finds the vendors whose price fits a client's budget.
+ * Candidates come from the model's interval tree of prices, so only vendors whose price overlaps the budget are
+ * looked at. Vendors already linked to another client with the same wedding date are left out, since they are
+ * booked on that day; this is checked in the model's index of bookings.
+ */
+public class VendorMatcher {
+
+    /** The group of the vendors without a category. */
+    public static final String UNCATEGORIZED = "uncategorized";
+
+    private final Model model;
+
+    /**
+     * Creates a {@code VendorMatcher} that reads vendors and links from {@code model}.
+     */
+    public VendorMatcher(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the vendors whose price overlaps the budget of {@code client}, grouped by case-folded category name
+     * in alphabetical order with {@link #UNCATEGORIZED} last, each group ordered by {@link VendorMatch#BEST_FIRST}.
+     * A vendor with several categories is listed under each of them. Returns no groups if the client has no budget.
+     */
+    public Map<String, List<VendorMatch>> match(Person client) {
+        requireNonNull(client);
+        assert client.getType() == PersonType.CLIENT;
+        Optional<Budget> budget = client.getBudget();
+        if (budget.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long budgetMin = budget.get().getMin();
+        long budgetMax = budget.get().getMax();
+
+        TreeMap<String, List<VendorMatch>> groups = new TreeMap<>();
+        List<VendorMatch> uncategorized = new ArrayList<>();
+        for (PersonId id : model.findPersonIdsByPriceOverlapping(budgetMin, budgetMax)) {
+            Optional<Person> vendor = model.findPersonById(id);
+            if (vendor.isEmpty() || vendor.get().getType() != PersonType.VENDOR
+                    || isBookedOnWeddingOf(vendor.get(), client)) {
+                continue;
+            }
+
+            VendorMatch match = new VendorMatch(vendor.get(),
+                    getFit(vendor.get().getPrice().get(), budgetMin, budgetMax));
+            if (vendor.get().getCategories().isEmpty()) {
+                uncategorized.add(match);
+            }
+            for (String category : getCategoryKeys(vendor.get())) {
+                groups.computeIfAbsent(category, unused -> new ArrayList<>()).add(match);
+            }
+        }
+
+        Map<String, List<VendorMatch>> result = new LinkedHashMap<>();
+        groups.forEach((category, matches) -> result.put(category, sortBestFirst(matches)));
+        if (!uncategorized.isEmpty()) {
+            result.put(UNCATEGORIZED, sortBestFirst(uncategorized));
+        }
+        return result;
+    }
+
+    /**
+     * Runs {@link #match(Person)} for each of {@code clients} in parallel.
+     * The model must not be changed until this returns.
+     *
+     * @return the matches of each client, in the order of {@code clients}.
+     * @throws CancellationException if the calling thread is interrupted before every client has been matched.
+     *     The thread is left interrupted.
+     */
+    public Map<Person, Map<String, List<VendorMatch>>> matchAll(List<Person> clients) {
+        requireNonNull(clients);
+        Thread caller = Thread.currentThread();
+        List<Map<String, List<VendorMatch>>> matches = clients.parallelStream()
+                .map(client -> {
+                    if (caller.isInterrupted()) {
+                        throw new CancellationException();
+                    }
+                    return match(client);
+                })
+                .collect(Collectors.toList());
+
+        Map<Person, Map<String, List<VendorMatch>>> result = new LinkedHashMap<>();
+        for (int i = 0; i < clients.size(); i++) {
+            result.put(clients.get(i), matches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fraction of {@code price} that lies within the budget from {@code budgetMin} to {@code budgetMax}.
+     */
+    static double getFit(Price price, long budgetMin, long budgetMax) {
+        long width = price.getMax() - price.getMin();
+        if (width == 0) {
+            return 1;
+        }
+        long overlap = Math.min(price.getMax(), budgetMax) - Math.max(price.getMin(), budgetMin);
+        return Math.max(0, Math.min(1, (double) overlap / width));
+    }
+
+    /**
+     * Returns true if {@code vendor} is linked to a client other than {@code client} whose wedding is on the same date.
+     */
+    private boolean isBookedOnWeddingOf(Person vendor, Person client) {
+        Optional<WeddingDate> weddingDate = client.getWeddingDate();
+        if (weddingDate.isEmpty()) {
+            return false;
+        }
+        for (Person bookedClient : model.getClientsBookedWith(vendor, weddingDate.get().getDate())) {
+            if (!bookedClient.getId().equals(client.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> getCategoryKeys(Person vendor) {
+        return vendor.getCategories().stream()
+                .map(category -> category.categoryName.toLowerCase(Locale.ROOT))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static List<VendorMatch> sortBestFirst(List<VendorMatch> matches) {
+        matches.sort(VendorMatch.BEST_FIRST);
+        return Collections.unmodifiableList(matches);
+    }
+}
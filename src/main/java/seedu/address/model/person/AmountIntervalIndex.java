@@ -0,0 +1,196 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An interval tree over amount ranges, such as vendor prices or client budgets, keyed by person id.
+ * The tree is a treap ordered by the lower end of each range, where every node also records the highest upper end in
+ * its subtree. Subtrees whose ranges all end below a query, or all start above it, are skipped, so finding the ranges
+ * that overlap a query takes logarithmic time plus time proportional to the number of matches, and adding or removing
+ * a range takes logarithmic time, all in expectation.
+ */
+class AmountIntervalIndex {
+
+    private static final class Node {
+        final PersonId id;
+        final long min;
+        final long max;
+        final int priority;
+        long subtreeMax;
+        Node left;
+        Node right;
+
+        Node(PersonId id, long min, long max) {
+            this.id = id;
+            this.min = min;
+            this.max = max;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.subtreeMax = max;
+        }
+    }
+
+    private final Map<PersonId, Node> nodesById = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds the range from {@code min} to {@code max}, both inclusive, for {@code id}, replacing any range it had.
+     */
+    void put(PersonId id, long min, long max) {
+        requireNonNull(id);
+        assert min <= max;
+        remove(id);
+        Node node = new Node(id, min, max);
+        root = insert(root, node);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * Removes the range of {@code id}, if it has one.
+     */
+    void remove(PersonId id) {
+        requireNonNull(id);
+        Node node = nodesById.remove(id);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Removes all ranges.
+     */
+    void clear() {
+        nodesById.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the ids whose range has any amount in common with the range from {@code from} to {@code to}, both
+     * inclusive, in ascending order of the lower ends of their ranges.
+     */
+    Set<PersonId> findOverlapping(long from, long to) {
+        Set<PersonId> ids = new LinkedHashSet<>();
+        if (from <= to) {
+            collectOverlapping(root, from, to, ids);
+        }
+        return ids;
+    }
+
+    int size() {
+        return nodesById.size();
+    }
+
+    private static void collectOverlapping(Node node, long from, long to, Set<PersonId> ids) {
+        if (node == null || node.subtreeMax < from) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, ids);
+        if (node.min > to) {
+            // Every range in the right subtree starts at or after this one
+            return;
+        }
+        if (node.max >= from) {
+            ids.add(node.id);
+        }
+        collectOverlapping(node.right, from, to, ids);
+    }
+
+    /**
+     * Orders nodes by the lower end of their range, breaking ties by the upper end and then by id.
+     */
+    private static boolean isBefore(Node first, Node second) {
+        return first.min < second.min
+                || first.min == second.min && first.max < second.max
+                || first.min == second.min && first.max == second.max
+                && first.id.value.compareTo(second.id.value) < 0;
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+        if (isBefore(node, root)) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        update(root);
+        return root;
+    }
+
+    private static Node delete(Node root, Node node) {
+        if (root == null) {
+            return null;
+        }
+        if (root == node) {
+            return merge(root.left, root.right);
+        }
+        if (isBefore(node, root)) {
+            root.left = delete(root.left, node);
+        } else {
+            root.right = delete(root.right, node);
+        }
+        update(root);
+        return root;
+    }
+
+    /**
+     * Joins two treaps where every node of {@code left} comes before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long subtreeMax = node.max;
+        if (node.left != null) {
+            subtreeMax = Math.max(subtreeMax, node.left.subtreeMax);
+        }
+        if (node.right != null) {
+            subtreeMax = Math.max(subtreeMax, node.right.subtreeMax);
+        }
+        node.subtreeMax = subtreeMax;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The numeric value of a {@link Price} or {@link Budget}: either a single amount, or a range of amounts whose lower
+ * end is strictly less than its upper end.
+ * Amounts are parsed once, in a single pass over the text, so that they can be compared and displayed without
+ * parsing the text again.
+ */
+final class AmountRange {
+
+    static final int MAX_DIGITS = 10;
+
+    final long min;
+    final long max;
+
+    private AmountRange(long min, long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Parses {@code text} of the form {@code AMOUNT} or {@code MIN-MAX}, where each part is 1 to {@value #MAX_DIGITS}
+     * ASCII digits and {@code MIN} is less than {@code MAX}.
+     *
+     * @return the parsed range, or null if {@code text} is not of that form.
+     */
+    static AmountRange parse(String text) {
+        requireNonNull(text);
+        int hyphen = text.indexOf('-');
+        if (hyphen < 0) {
+            long amount = parseAmount(text, 0, text.length());
+            return amount < 0 ? null : new AmountRange(amount, amount);
+        }
+
+        long min = parseAmount(text, 0, hyphen);
+        long max = parseAmount(text, hyphen + 1, text.length());
+        if (min < 0 || max < 0 || min >= max) {
+            return null;
+        }
+        return new AmountRange(min, max);
+    }
+
+    /**
+     * Returns the amount written in {@code text} from {@code start} to {@code end}, or -1 if that part is not 1 to
+     * {@value #MAX_DIGITS} ASCII digits.
+     */
+    private static long parseAmount(String text, int start, int end) {
+        if (end <= start || end - start > MAX_DIGITS) {
+            return -1;
+        }
+        long amount = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            amount = amount * 10 + (c - '0');
+        }
+        return amount;
+    }
+
+    /**
+     * Returns true if this range has any amount in common with {@code other}.
+     */
+    boolean overlaps(AmountRange other) {
+        return min <= other.max && other.min <= max;
+    }
+
+    /**
+     * Returns the amounts with a $ prefix and thousand separators, e.g. {@code $800-$1,500}.
+     */
+    String toDisplayString() {
+        return min == max
+                ? "$" + String.format("%,d", min)
+                : "$" + String.format("%,d", min) + "-$" + String.format("%,d", max);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A vendor that is linked to more than one client with a wedding on the same date.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class BookingConflict {
+
+    private final Person vendor;
+    private final LocalDate date;
+    private final List<Person> clients;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public BookingConflict(Person vendor, LocalDate date, List<Person> clients) {
+        requireAllNonNull(vendor, date, clients);
+        this.vendor = vendor;
+        this.date = date;
+        this.clients = List.copyOf(clients);
+    }
+
+    public Person getVendor() {
+        return vendor;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the clients that booked the vendor on the date, in the order they were linked.
+     */
+    public List<Person> getClients() {
+        return clients;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookingConflict)) {
+            return false;
+        }
+
+        BookingConflict otherConflict = (BookingConflict) other;
+        return vendor.equals(otherConflict.vendor)
+                && date.equals(otherConflict.date)
+                && clients.equals(otherConflict.clients);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vendor, date, clients);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("vendor", vendor)
+                .add("date", date)
+                .add("clients", clients)
+                .toString();
+    }
+}
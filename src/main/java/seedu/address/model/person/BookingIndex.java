@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from each vendor and wedding date to the ids of the clients with a wedding on that date that the vendor
+ * is linked to.
+ * A vendor is double-booked on a date when more than one client is booked under it. The index keeps those dates
+ * aside as bookings are added and removed, so checking one vendor and date takes constant time and listing every
+ * double booking takes time proportional to the number of them.
+ */
+public class BookingIndex {
+
+    private final Map<PersonId, Map<LocalDate, Set<PersonId>>> clientsByVendor = new HashMap<>();
+    private final TreeMap<LocalDate, Set<PersonId>> doubleBookedVendorsByDate = new TreeMap<>();
+
+    /**
+     * Books the vendor with id {@code vendorId} for the wedding of the client with id {@code clientId} on
+     * {@code date}. Has no effect if it is already booked.
+     */
+    public void book(PersonId vendorId, LocalDate date, PersonId clientId) {
+        requireAllNonNull(vendorId, date, clientId);
+        Set<PersonId> clientIds = clientsByVendor.computeIfAbsent(vendorId, unused -> new HashMap<>())
+                .computeIfAbsent(date, unused -> new LinkedHashSet<>(2));
+        if (clientIds.add(clientId) && clientIds.size() == 2) {
+            doubleBookedVendorsByDate.computeIfAbsent(date, unused -> new LinkedHashSet<>()).add(vendorId);
+        }
+    }
+
+    /**
+     * Removes the booking of the vendor with id {@code vendorId} for the wedding of the client with id
+     * {@code clientId} on {@code date}, if any.
+     */
+    public void unbook(PersonId vendorId, LocalDate date, PersonId clientId) {
+        requireAllNonNull(vendorId, date, clientId);
+        Map<LocalDate, Set<PersonId>> clientsByDate = clientsByVendor.get(vendorId);
+        Set<PersonId> clientIds = clientsByDate == null ? null : clientsByDate.get(date);
+        if (clientIds == null || !clientIds.remove(clientId)) {
+            return;
+        }
+
+        if (clientIds.size() == 1) {
+            removeDoubleBooking(vendorId, date);
+        } else if (clientIds.isEmpty()) {
+            clientsByDate.remove(date);
+            if (clientsByDate.isEmpty()) {
+                clientsByVendor.remove(vendorId);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids of the clients that booked the vendor with id {@code vendorId} for a
+     * wedding on {@code date}, in the order they were booked.
+     */
+    public Set<PersonId> getClients(PersonId vendorId, LocalDate date) {
+        requireAllNonNull(vendorId, date);
+        Map<LocalDate, Set<PersonId>> clientsByDate = clientsByVendor.get(vendorId);
+        Set<PersonId> clientIds = clientsByDate == null ? null : clientsByDate.get(date);
+        return clientIds == null ? Collections.emptySet() : Collections.unmodifiableSet(clientIds);
+    }
+
+    /**
+     * Returns the ids of the vendors booked by more than one client on the same date, by date in ascending order.
+     */
+    public Map<LocalDate, List<PersonId>> getDoubleBookings() {
+        Map<LocalDate, List<PersonId>> doubleBookings = new LinkedHashMap<>();
+        doubleBookedVendorsByDate.forEach((date, vendorIds) -> doubleBookings.put(date, List.copyOf(vendorIds)));
+        return doubleBookings;
+    }
+
+    /**
+     * Removes all bookings.
+     */
+    public void clear() {
+        clientsByVendor.clear();
+        doubleBookedVendorsByDate.clear();
+    }
+
+    private void removeDoubleBooking(PersonId vendorId, LocalDate date) {
+        Set<PersonId> vendorIds = doubleBookedVendorsByDate.get(date);
+        if (vendorIds != null && vendorIds.remove(vendorId) && vendorIds.isEmpty()) {
+            doubleBookedVendorsByDate.remove(date);
+        }
+    }
+}
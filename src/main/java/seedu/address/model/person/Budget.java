@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Client's budget in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBudget(String)}
+ * The amounts are parsed and formatted once, when the budget is created.
  */
 public class Budget {
 
@@ -14,16 +15,11 @@ public class Budget {
                     + "Only digits and a single hyphen are allowed (no spaces, commas, or $).\n"
                     + "For ranges, the left value must be strictly less than the right value.";
 
-    /*
-     * Accepts:
-     * - Single number: "1200"
-     * - Range with hyphen: "800-1500"
-     * Only digits and hyphens allowed (no commas, no dollar signs)
-     */
-    public static final String VALIDATION_REGEX = "^\\d{1,10}(-\\d{1,10})?$";
-
     public final String value;
 
+    private final AmountRange amount;
+    private final String displayString;
+
     /**
      * Constructs a {@code Budget}.
      *
@@ -32,65 +28,41 @@ public class Budget {
     public Budget(String budget) {
         requireNonNull(budget);
         String trimmed = budget.trim();
-        checkArgument(isValidBudget(trimmed), MESSAGE_CONSTRAINTS);
+        AmountRange parsed = AmountRange.parse(trimmed);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
         value = trimmed;
+        amount = parsed;
+        displayString = parsed.toDisplayString();
     }
 
     /**
      * Returns true if a given string is a valid budget.
      */
     public static boolean isValidBudget(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-
-        // If it's a range, validate that min <= max
-        if (test.contains("-")) {
-            String[] parts = test.split("-");
-            if (parts.length == 2) {
-                try {
-                    long min = Long.parseLong(parts[0]);
-                    long max = Long.parseLong(parts[1]);
-                    return min < max;
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
+        requireNonNull(test);
+        return AmountRange.parse(test) != null;
     }
 
     /**
-     * Returns a formatted string representation with $ and commas.
+     * Returns the lowest amount of this budget, which is the amount itself for a single amount.
      */
-    @Override
-    public String toString() {
-        return formatBudget(value);
+    public long getMin() {
+        return amount.min;
     }
 
     /**
-     * Formats a budget string with $ prefix and thousand separators.
-     * Handles both single values and ranges.
+     * Returns the highest amount of this budget, which is the amount itself for a single amount.
      */
-    private static String formatBudget(String budget) {
-        if (budget.contains("-")) {
-            String[] parts = budget.split("-");
-            return "$" + formatNumber(parts[0]) + "-$" + formatNumber(parts[1]);
-        }
-        return "$" + formatNumber(budget);
+    public long getMax() {
+        return amount.max;
     }
 
     /**
-     * Formats a number with thousand separators.
+     * Returns a formatted string representation with $ and commas.
      */
-    private static String formatNumber(String number) {
-        try {
-            long num = Long.parseLong(number);
-            return String.format("%,d", num);
-        } catch (NumberFormatException e) {
-            return number;
-        }
+    @Override
+    public String toString() {
+        return displayString;
     }
 
     @Override
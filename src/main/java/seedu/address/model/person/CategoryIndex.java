@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.category.Category;
+
+/**
+ * An inverted index from case-folded category names to the ids of the persons in each category.
+ * Looking up the persons in a category takes time proportional to their number, and counting them takes constant
+ * time, no matter how many persons are in the address book.
+ *
+ * @see CategoryMatchesPredicate
+ */
+class CategoryIndex {
+
+    private final Map<String, Set<PersonId>> idsByCategory = new HashMap<>();
+
+    /**
+     * Adds {@code person} to each of its categories.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        for (Category category : person.getCategories()) {
+            idsByCategory.computeIfAbsent(toKey(category.categoryName), unused -> new HashSet<>())
+                    .add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of its categories, if it was added.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (Category category : person.getCategories()) {
+            String key = toKey(category.categoryName);
+            Set<PersonId> ids = idsByCategory.get(key);
+            if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                idsByCategory.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces all entries with {@code persons}.
+     */
+    void putAll(List<Person> persons) {
+        idsByCategory.clear();
+        for (Person person : persons) {
+            put(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons in {@code category}, ignoring case.
+     */
+    Set<PersonId> findIds(String category) {
+        requireNonNull(category);
+        return new HashSet<>(idsByCategory.getOrDefault(toKey(category), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the number of persons in {@code category}, ignoring case.
+     */
+    int count(String category) {
+        requireNonNull(category);
+        Set<PersonId> ids = idsByCategory.get(toKey(category));
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Returns the number of distinct categories in the index.
+     */
+    int size() {
+        return idsByCategory.size();
+    }
+
+    private static String toKey(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+}
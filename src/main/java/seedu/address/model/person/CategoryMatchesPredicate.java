@@ -15,6 +15,13 @@ public class CategoryMatchesPredicate implements Predicate<Person> {
         this.category = category;
     }
 
+    /**
+     * Returns the category to match.
+     */
+    public String getCategory() {
+        return category;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getCategories().stream()
@@ -0,0 +1,193 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentMap;
+
+/**
+ * An undirected graph of links between persons, stored as an adjacency index keyed by each person's id.
+ * Every edge is recorded on both of its endpoints, so looking up, adding or removing the links of one person only
+ * touches that person's neighbours.
+ *
+ * The adjacency index is also kept in a {@link PersistentMap} of {@link PersistentList}s, which every change replaces
+ * with a new version instead of changing in place, so that snapshots of the links can be taken in constant time and
+ * read from other threads.
+ *
+ * Supports a minimal set of graph operations.
+ */
+public class LinkGraph {
+
+    private final Map<PersonId, Set<PersonId>> adjacency = new HashMap<>();
+    // Null after all links are removed, until a snapshot is next taken
+    private PersistentMap<PersonId, PersistentList<PersonId>> versionedAdjacency = PersistentMap.empty();
+
+    /**
+     * Links the persons with ids {@code first} and {@code second}.
+     * Has no effect if they are already linked.
+     */
+    public void link(PersonId first, PersonId second) {
+        requireAllNonNull(first, second);
+        if (first.equals(second)) {
+            throw new IllegalArgumentException("A person cannot be linked to themselves.");
+        }
+        if (adjacency.computeIfAbsent(first, unused -> new LinkedHashSet<>()).add(second)) {
+            adjacency.computeIfAbsent(second, unused -> new LinkedHashSet<>()).add(first);
+            addVersioned(first, second);
+            addVersioned(second, first);
+        }
+    }
+
+    /**
+     * Removes the link between the persons with ids {@code first} and {@code second}, if any.
+     */
+    public void unlink(PersonId first, PersonId second) {
+        requireAllNonNull(first, second);
+        removeDirected(first, second);
+        removeDirected(second, first);
+    }
+
+    /**
+     * Returns true if the persons with ids {@code first} and {@code second} are linked.
+     */
+    public boolean isLinked(PersonId first, PersonId second) {
+        requireAllNonNull(first, second);
+        return adjacency.getOrDefault(first, Collections.emptySet()).contains(second);
+    }
+
+    /**
+     * Returns an unmodifiable view of the ids linked to {@code id}, in the order the links were made.
+     */
+    public Set<PersonId> getLinks(PersonId id) {
+        requireNonNull(id);
+        Set<PersonId> links = adjacency.get(id);
+        return links == null ? Collections.emptySet() : Collections.unmodifiableSet(links);
+    }
+
+    /**
+     * Removes every link that involves {@code id}.
+     */
+    public void removeAll(PersonId id) {
+        requireNonNull(id);
+        Set<PersonId> links = adjacency.remove(id);
+        if (links == null) {
+            return;
+        }
+        for (PersonId neighbour : links) {
+            removeDirected(neighbour, id);
+        }
+        if (versionedAdjacency != null) {
+            versionedAdjacency = versionedAdjacency.remove(id);
+        }
+    }
+
+    /**
+     * Moves every link of {@code oldId} over to {@code newId}.
+     * {@code newId} must not already have any links.
+     */
+    public void rekey(PersonId oldId, PersonId newId) {
+        requireAllNonNull(oldId, newId);
+        if (oldId.equals(newId)) {
+            return;
+        }
+        assert !adjacency.containsKey(newId);
+
+        Set<PersonId> links = adjacency.remove(oldId);
+        if (links == null) {
+            return;
+        }
+        adjacency.put(newId, links);
+        for (PersonId neighbour : links) {
+            Set<PersonId> neighbourLinks = adjacency.get(neighbour);
+            neighbourLinks.remove(oldId);
+            neighbourLinks.add(newId);
+            removeVersioned(neighbour, oldId);
+            addVersioned(neighbour, newId);
+        }
+        if (versionedAdjacency != null) {
+            versionedAdjacency = versionedAdjacency.put(newId, versionedAdjacency.get(oldId)).remove(oldId);
+        }
+    }
+
+    /**
+     * Removes all links.
+     */
+    public void clear() {
+        adjacency.clear();
+        // Built when a snapshot is next taken, as the graph is usually cleared to be filled with many links at once
+        versionedAdjacency = null;
+    }
+
+    /**
+     * Returns the ids linked to each person as the graph is now, as a map that later changes to the graph do not
+     * affect. Persons without links have no entry.
+     */
+    public PersistentMap<PersonId, PersistentList<PersonId>> snapshotLinks() {
+        if (versionedAdjacency == null) {
+            Map<PersonId, PersistentList<PersonId>> lists = new HashMap<>(adjacency.size() * 2);
+            adjacency.forEach((id, links) -> lists.put(id, PersistentList.copyOf(new ArrayList<>(links))));
+            versionedAdjacency = PersistentMap.copyOf(lists);
+        }
+        return versionedAdjacency;
+    }
+
+    private void removeDirected(PersonId from, PersonId to) {
+        Set<PersonId> links = adjacency.get(from);
+        if (links != null && links.remove(to)) {
+            if (links.isEmpty()) {
+                adjacency.remove(from);
+            }
+            removeVersioned(from, to);
+        }
+    }
+
+    private void addVersioned(PersonId from, PersonId to) {
+        if (versionedAdjacency != null) {
+            PersistentList<PersonId> links = versionedAdjacency.get(from);
+            versionedAdjacency = versionedAdjacency.put(from,
+                    (links == null ? PersistentList.<PersonId>empty() : links).add(to));
+        }
+    }
+
+    private void removeVersioned(PersonId from, PersonId to) {
+        if (versionedAdjacency == null) {
+            return;
+        }
+        PersistentList<PersonId> links = versionedAdjacency.get(from);
+        int index = links == null ? -1 : links.indexOf(to);
+        if (index == -1) {
+            return;
+        }
+        versionedAdjacency = links.size() == 1
+                ? versionedAdjacency.remove(from)
+                : versionedAdjacency.put(from, links.remove(index));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LinkGraph)) {
+            return false;
+        }
+
+        LinkGraph otherLinkGraph = (LinkGraph) other;
+        return adjacency.equals(otherLinkGraph.adjacency);
+    }
+
+    @Override
+    public int hashCode() {
+        return adjacency.hashCode();
+    }
+}
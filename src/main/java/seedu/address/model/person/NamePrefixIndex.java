@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from the lower-cased text that follows each word boundary in a person's name, and in the partner
+ * name of a CLIENT, to the ids of the persons whose names contain that text.
+ * A name matches a query at a word start exactly when one of its keys starts with the lower-cased query, so the
+ * persons matching a query are found by walking the keys in the range that starts with the query, without looking
+ * at any other person.
+ *
+ * @see NameStartsWithPredicate
+ */
+class NamePrefixIndex {
+
+    private final TreeMap<String, Set<PersonId>> idsByKey = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under each of its keys.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            idsByKey.computeIfAbsent(key, unused -> new HashSet<>(2)).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of its keys, if it was added.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String key : getKeys(person)) {
+            Set<PersonId> ids = idsByKey.get(key);
+            if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                idsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces all entries with {@code persons}.
+     */
+    void putAll(List<Person> persons) {
+        idsByKey.clear();
+        for (Person person : persons) {
+            put(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons whose name, or partner name for a CLIENT, contains a word that starts with
+     * {@code query}, ignoring case.
+     */
+    Set<PersonId> findIds(String query) {
+        requireNonNull(query);
+        String prefix = query.trim().toLowerCase(Locale.ROOT);
+        Set<PersonId> ids = new HashSet<>();
+        if (prefix.isEmpty()) {
+            return ids;
+        }
+        for (Map.Entry<String, Set<PersonId>> entry : idsByKey.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            ids.addAll(entry.getValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of distinct keys in the index.
+     */
+    int size() {
+        return idsByKey.size();
+    }
+
+    /**
+     * Returns the keys of {@code person}: the lower-cased remainder of its name, and of the partner name for a
+     * CLIENT, from every word boundary onwards.
+     */
+    static Set<String> getKeys(Person person) {
+        Set<String> keys = new HashSet<>();
+        addKeys(person.getName() == null ? "" : person.getName().toString(), keys);
+        if (person.getType() == PersonType.CLIENT) {
+            addKeys(person.getPartner().map(Partner::toString).orElse(""), keys);
+        }
+        return keys;
+    }
+
+    /**
+     * Adds the remainder of {@code text} from each word boundary, in the sense of the regex {@code \b}, to
+     * {@code keys}. The end of the text is a boundary too, but nothing non-empty follows it.
+     */
+    private static void addKeys(String text, Set<String> keys) {
+        boolean isAfterWordChar = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean isWordChar = isWordChar(text.charAt(i));
+            if (isWordChar != isAfterWordChar) {
+                keys.add(text.substring(i).toLowerCase(Locale.ROOT));
+            }
+            isAfterWordChar = isWordChar;
+        }
+    }
+
+    /**
+     * Returns true if {@code c} is a word character for the purposes of the regex {@code \b}.
+     */
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -28,10 +29,17 @@ public class NameStartsWithPredicate implements Predicate<Person> {
         if (q.isEmpty()) {
             throw new IllegalArgumentException("Query must not be empty");
         }
-        this.query = q.toLowerCase(); // for equals/toString only
+        this.query = q.toLowerCase(Locale.ROOT);
         this.wordStartPattern = Pattern.compile("(?i)\\b" + Pattern.quote(q));
     }
 
+    /**
+     * Returns the query, lower-cased in the same way as the keys of {@link NamePrefixIndex}.
+     */
+    public String getQuery() {
+        return query;
+    }
+
     @Override
     public boolean test(Person person) {
         // Self name via toString (since there is no fullName field)
@@ -15,10 +15,24 @@ public class Partner {
      * Constructs a {@code Partner} with the given name.
      * */
     public Partner(String value) {
+        this(value, true);
+    }
+
+    private Partner(String value, boolean shouldValidate) {
         requireNonNull(value);
-        checkArgument(Name.isValidName(value.strip()), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(Name.isValidName(value.strip()), MESSAGE_CONSTRAINTS);
+        }
         this.value = value.strip();
     }
+
+    /**
+     * Returns a {@code Partner} for a partner name that is already known to be valid, without validating it again.
+     */
+    static Partner ofValidated(String value) {
+        return new Partner(value, false);
+    }
+
     @Override public String toString() {
         return value;
     }
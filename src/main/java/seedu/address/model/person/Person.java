@@ -32,6 +32,7 @@ public class Person {
               "Vendors can have at most one category.";
 
     // Identity fields
+    private final PersonId id;
     private final Name name;
     private final Phone phone;
     private final Email email;
@@ -42,20 +43,29 @@ public class Person {
     private final Set<Category> categories = new HashSet<>();
     private final PersonType type;
     private final Price price; // only for vendors
-    private final Set<Person> linkedPersons = new HashSet<>();
     private final Budget budget; // only for clients
     private final Optional<Partner> partner;
 
     /**
      * Constructor for clients - every field must be present and not null, except
-     * budget which is optional.
+     * budget which is optional. A new id is generated for the client.
      */
     public Person(Name name, Phone phone, Email email, Address address, WeddingDate weddingDate, PersonType type,
             Set<Category> categories, Price price, Budget budget, Optional<Partner> partner) {
-        requireAllNonNull(name, phone, email, address, weddingDate, categories, type);
+        this(PersonId.generate(), name, phone, email, address, weddingDate, type, categories, price, budget, partner);
+    }
+
+    /**
+     * Constructor for clients with an existing id - every field must be present and not null, except
+     * budget which is optional.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, WeddingDate weddingDate,
+            PersonType type, Set<Category> categories, Price price, Budget budget, Optional<Partner> partner) {
+        requireAllNonNull(id, name, phone, email, address, weddingDate, categories, type);
         checkArgument(isValidPartnerForType(type, partner),
                 type == PersonType.CLIENT ? MSG_PARTNER_REQUIRED_FOR_CLIENT : MSG_PARTNER_FORBIDDEN_FOR_VENDOR);
         checkArgument(isValidCategoriesForType(type, categories), MSG_TAGS_FORBIDDEN_FOR_CLIENT);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -69,81 +79,51 @@ public class Person {
     }
 
     /**
-     * Constructor for vendors - no wedding date field.
+     * Constructor for vendors - no wedding date field. A new id is generated for the vendor.
      */
     public Person(Name name, Phone phone, Email email, Address address, PersonType type,
             Set<Category> categories, Price price) {
-        requireAllNonNull(name, phone, email, address, categories);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.weddingDate = null; // Vendors don't have wedding dates
-        this.type = type;
-        this.categories.addAll(categories);
-        this.price = price;
-        this.budget = null; // Vendors don't have budgets
-        this.partner = Optional.empty(); // Vendors don't have partners
+        this(PersonId.generate(), name, phone, email, address, type, categories, price);
     }
 
     /**
-     * Constructor with linked persons for clients.
+     * Constructor for vendors with an existing id - no wedding date field.
      */
-    public Person(Name name, Phone phone, Email email, Address address, WeddingDate weddingDate, PersonType type,
-            Set<Category> categories, Set<Person> linkedPersons, Price price, Optional<Partner> partner) {
-        requireAllNonNull(name, phone, email, address, weddingDate, categories, linkedPersons);
-        checkArgument(isValidCategoriesForType(type, categories), MSG_TAGS_FORBIDDEN_FOR_CLIENT);
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, PersonType type,
+            Set<Category> categories, Price price) {
+        requireAllNonNull(id, name, phone, email, address, categories);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.weddingDate = weddingDate;
+        this.weddingDate = null; // Vendors don't have wedding dates
         this.type = type;
         this.categories.addAll(categories);
         this.price = price;
-        this.linkedPersons.addAll(linkedPersons);
-        this.budget = null;
-        this.partner = partner;
+        this.budget = null; // Vendors don't have budgets
+        this.partner = Optional.empty(); // Vendors don't have partners
     }
 
     /**
-     * Constructor with linked persons for clients, preserving budget.
+     * Returns a person whose name, phone, email, address and partner were validated before they were saved, such
+     * as the persons of a snapshot written by this app, without validating those fields again.
+     * The wedding date, budget and partner of a vendor are ignored.
      */
-    public Person(Name name, Phone phone, Email email, Address address, WeddingDate weddingDate,
-                  PersonType type, Set<Category> categories, Set<Person> linkedPersons, Price price,
-                  Budget budget, Optional<Partner> partner) {
-        requireAllNonNull(name, phone, email, address, weddingDate, categories, linkedPersons);
-        checkArgument(isValidCategoriesForType(type, categories), MSG_TAGS_FORBIDDEN_FOR_CLIENT);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.weddingDate = weddingDate;
-        this.type = type;
-        this.categories.addAll(categories);
-        this.price = price;
-        this.linkedPersons.addAll(linkedPersons);
-        this.budget = budget;
-        this.partner = partner;
+    public static Person ofValidatedFields(PersonId id, String name, String phone, String email, String address,
+            WeddingDate weddingDate, PersonType type, Set<Category> categories, Price price, Budget budget,
+            String partner) {
+        if (type == PersonType.VENDOR) {
+            return new Person(id, Name.ofValidated(name), Phone.ofValidated(phone), Email.ofValidated(email),
+                    Address.ofValidated(address), type, categories, price);
+        }
+        return new Person(id, Name.ofValidated(name), Phone.ofValidated(phone), Email.ofValidated(email),
+                Address.ofValidated(address), weddingDate, type, categories, price, budget,
+                Optional.ofNullable(partner).map(Partner::ofValidated));
     }
 
-    /**
-     * Constructor with linked persons for vendors.
-     */
-    public Person(Name name, Phone phone, Email email, Address address, PersonType type,
-            Set<Category> categories, Set<Person> linkedPersons, Price price) {
-        requireAllNonNull(name, phone, email, address, categories, linkedPersons);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.weddingDate = null; // Vendors don't have wedding dates
-        this.type = type;
-        this.categories.addAll(categories);
-        this.price = price;
-        this.linkedPersons.addAll(linkedPersons);
-        this.budget = null; // Vendors don't have budgets
-        this.partner = Optional.empty(); // Vendors don't have partners
+    public PersonId getId() {
+        return id;
     }
 
     public Name getName() {
@@ -182,22 +162,6 @@ public class Person {
         return partner;
     }
 
-    /**
-     * Returns an immutable set of linked persons, which throws
-     * {@code UnsupportedOperationException}
-     * if modification is attempted.
-     */
-    public Set<Person> getLinkedPersons() {
-        return Collections.unmodifiableSet(linkedPersons);
-    }
-
-    /**
-     * Returns true if this person is linked to the specified person.
-     */
-    public boolean isLinkedTo(Person other) {
-        return linkedPersons.contains(other);
-    }
-
     /**
      * Returns an immutable category set, which throws
      * {@code UnsupportedOperationException}
@@ -242,6 +206,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The id is not compared, as it identifies a record rather than describing the person.
      */
     @Override
     public boolean equals(Object other) {
@@ -270,8 +235,6 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        // linkedPersons intentionally excluded from hashCode to avoid circular
-        // references
         return Objects.hash(name, phone, email, address, weddingDate, type, categories, price, budget, partner);
     }
 
@@ -286,7 +249,6 @@ public class Person {
                 .add("categories", categories)
                 .add("type", type)
                 .add("price", price)
-                .add("linkedPersons", linkedPersons.size() + " link(s)")
                 .toString();
     }
 
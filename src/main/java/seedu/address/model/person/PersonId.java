@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Represents the identifier of a Person in the address book.
+ * Unlike the phone number, the id never changes once a person has been created, so it can be used to refer to a
+ * person across edits.
+ * Guarantees: immutable; is valid as declared in {@link #isValidPersonId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be UUIDs, e.g. "
+            + "123e4567-e89b-12d3-a456-426614174000";
+    public static final String VALIDATION_REGEX =
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+
+    private static final String LEGACY_NAMESPACE = "knotbook:phone:";
+
+    public final String value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid person id.
+     */
+    public PersonId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidPersonId(id), MESSAGE_CONSTRAINTS);
+        value = id.toLowerCase();
+    }
+
+    private PersonId(UUID uuid) {
+        value = uuid.toString();
+    }
+
+    /**
+     * Returns the {@code PersonId} of {@code uuid}.
+     */
+    public static PersonId of(UUID uuid) {
+        requireNonNull(uuid);
+        return new PersonId(uuid);
+    }
+
+    /**
+     * Returns a new, randomly generated {@code PersonId}.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID());
+    }
+
+    /**
+     * Returns the id given to a person that was saved by an older version, before persons had ids.
+     * The id is derived from the person's phone number, so the same data file always yields the same ids.
+     */
+    public static PersonId fromLegacyPhone(Phone phone) {
+        requireNonNull(phone);
+        byte[] name = (LEGACY_NAMESPACE + phone.value).getBytes(StandardCharsets.UTF_8);
+        return new PersonId(UUID.nameUUIDFromBytes(name));
+    }
+
+    /**
+     * Returns true if a given string is a valid person id.
+     */
+    public static boolean isValidPersonId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value.equals(otherPersonId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+}
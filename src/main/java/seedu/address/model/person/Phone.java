@@ -15,15 +15,32 @@ public class Phone {
     public static final String VALIDATION_REGEX = "\\d{8}";
     public final String value;
 
+    /** Numeric form of {@code value}; exactly 8 digits always fits in an {@code int}. */
+    private final int key;
+
     /**
      * Constructs a {@code Phone}.
      *
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean shouldValidate) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
+        key = Integer.parseInt(phone);
+    }
+
+    /**
+     * Returns a {@code Phone} for a phone number that is already known to be valid, without validating it again.
+     */
+    static Phone ofValidated(String phone) {
+        return new Phone(phone, false);
     }
 
     /**
@@ -33,6 +50,14 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the phone number as an {@code int}, for use as a compact index key.
+     * Two phones are equal if and only if their keys are equal.
+     */
+    public int toKey() {
+        return key;
+    }
+
     @Override
     public String toString() {
         return value;
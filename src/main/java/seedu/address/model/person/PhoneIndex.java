@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * An open-addressing hash map from {@link Phone#toKey()} to the {@code Person} holding that phone number.
+ * Keys are primitive {@code int}s, so lookups do not allocate or box.
+ * Collisions are resolved with linear probing, and removals use backward-shift deletion so that no tombstones
+ * are left behind.
+ */
+class PhoneIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private Person[] values;
+    private int size;
+
+    PhoneIndex() {
+        clear();
+    }
+
+    /**
+     * Returns the person with the given phone key, or null if there is none.
+     */
+    Person get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associates {@code person} with its phone key, replacing any person previously stored under the same key.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        insert(person.getPhone().toKey(), person);
+    }
+
+    /**
+     * Removes the person stored under the given phone key, if any.
+     */
+    void remove(int key) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return;
+        }
+
+        // Shift later entries of the same probe run back into the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], mask);
+            boolean canMove = free <= next ? (home <= free || home > next) : (home <= free && home > next);
+            if (canMove) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        values[free] = null;
+        size--;
+    }
+
+    /**
+     * Removes all entries and shrinks the table back to its initial capacity.
+     */
+    void clear() {
+        keys = new int[INITIAL_CAPACITY];
+        values = new Person[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Replaces all entries with {@code persons}, sizing the table once up front.
+     */
+    void putAll(List<Person> persons) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < persons.size() * 2) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Person[capacity];
+        size = 0;
+        for (Person person : persons) {
+            insert(person.getPhone().toKey(), person);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(int key, Person person) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = person;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = person;
+        size++;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Person[] oldValues = values;
+        keys = new int[newCapacity];
+        values = new Person[newCapacity];
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Spreads the key bits so that numerically close phone numbers do not cluster in the table.
+     */
+    private static int slotOf(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Vendor's price in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * The amounts are parsed and formatted once, when the price is created.
  */
 public class Price {
 
@@ -15,16 +16,11 @@ public class Price {
                     + "For ranges, the left value must be strictly less than the right value.\n"
                     + "Length limit is 10 digits (i.e. $9,999,999,999).";
 
-    /*
-     * Accepts:
-     * - Single number: "1200"
-     * - Range with hyphen: "800-1500"
-     * Only digits and hyphens allowed (no commas, no dollar signs)
-     */
-    public static final String VALIDATION_REGEX = "^\\d{1,10}(-\\d{1,10})?$";
-
     public final String value;
 
+    private final AmountRange amount;
+    private final String displayString;
+
     /**
      * Constructs a {@code Price}.
      *
@@ -34,8 +30,11 @@ public class Price {
         requireNonNull(price);
         String trimmed = price.trim();
         trimmed = stripLeadingZeros(trimmed);
-        checkArgument(isValidPrice(trimmed), MESSAGE_CONSTRAINTS);
+        AmountRange parsed = AmountRange.parse(trimmed);
+        checkArgument(parsed != null, MESSAGE_CONSTRAINTS);
         value = trimmed;
+        amount = parsed;
+        displayString = parsed.toDisplayString();
     }
 
     /**
@@ -43,7 +42,10 @@ public class Price {
      */
     private static String stripLeadingZeros(String input) {
         if (input.contains("-")) {
-            String[] parts = input.split("-");
+            String[] parts = input.split("-", -1);
+            if (parts.length != 2) {
+                return input;
+            }
             String left = parts[0].replaceFirst("^0+(?!$)", "");
             String right = parts[1].replaceFirst("^0+(?!$)", "");
             return left + "-" + right;
@@ -57,57 +59,30 @@ public class Price {
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-
-        // If it's a range, validate that min <= max
-        if (test.contains("-")) {
-            String[] parts = test.split("-");
-            if (parts.length == 2) {
-                try {
-                    long min = Long.parseLong(parts[0]);
-                    long max = Long.parseLong(parts[1]);
-                    return min < max;
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
+        requireNonNull(test);
+        return AmountRange.parse(test) != null;
     }
 
     /**
-     * Returns a formatted string representation with $ and commas.
+     * Returns the lowest amount of this price, which is the amount itself for a single amount.
      */
-    @Override
-    public String toString() {
-        return formatPrice(value);
+    public long getMin() {
+        return amount.min;
     }
 
     /**
-     * Formats a price string with $ prefix and thousand separators.
-     * Handles both single values and ranges.
+     * Returns the highest amount of this price, which is the amount itself for a single amount.
      */
-    private static String formatPrice(String price) {
-        if (price.contains("-")) {
-            String[] parts = price.split("-");
-            return "$" + formatNumber(parts[0]) + "-$" + formatNumber(parts[1]);
-        }
-        return "$" + formatNumber(price);
+    public long getMax() {
+        return amount.max;
     }
 
     /**
-     * Formats a number with thousand separators.
+     * Returns a formatted string representation with $ and commas.
      */
-    private static String formatNumber(String number) {
-        try {
-            long num = Long.parseLong(number);
-            return String.format("%,d", num);
-        } catch (NumberFormatException e) {
-            return number;
-        }
+    @Override
+    public String toString() {
+        return displayString;
     }
 
     @Override
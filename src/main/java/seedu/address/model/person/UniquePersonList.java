@@ -3,11 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,22 +28,114 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are keyed by their {@link PersonId}, which must also be unique, and are additionally indexed by phone
+ * number, so identity checks and lookups by id or phone take constant time instead of scanning the list. Name
+ * searches go through a word-prefix index of the names, category searches through an inverted index of the
+ * categories, wedding date searches through a date-ordered index and price or budget searches through interval trees,
+ * so all of them only visit the matching persons.
+ *
+ * Alongside the observable list, the persons are also kept in a {@link PersistentList} and keyed by id in a
+ * {@link PersistentMap}, which every change replaces with a new version instead of changing in place, so that
+ * snapshots of the list can be taken in constant time and read from other threads.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Person> internalList = new BatchObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<PersonId, Person> personsById = new HashMap<>();
+    private PhoneIndex phoneIndex = new PhoneIndex();
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex();
+    private final CategoryIndex categoryIndex = new CategoryIndex();
+    private final WeddingDateIndex weddingDateIndex = new WeddingDateIndex();
+    private final AmountIntervalIndex priceIndex = new AmountIntervalIndex();
+    private final AmountIntervalIndex budgetIndex = new AmountIntervalIndex();
+    // Null after the whole list is replaced, until a snapshot is next taken
+    private PersistentList<Person> versionedList = PersistentList.empty();
+    private PersistentMap<PersonId, Person> versionedById = PersistentMap.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.get(toCheck.getPhone().toKey()) != null;
+    }
+
+    /**
+     * Returns the person with the given id, if any.
+     */
+    public Optional<Person> findById(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns the person with the given phone number, if any.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(phoneIndex.get(phone.toKey()));
+    }
+
+    /**
+     * Returns the ids of the persons whose name, or partner name for a CLIENT, contains a word that starts with
+     * {@code query}, ignoring case.
+     *
+     * @see NameStartsWithPredicate
+     */
+    public Set<PersonId> findIdsByNamePrefix(String query) {
+        requireNonNull(query);
+        return nameIndex.findIds(query);
+    }
+
+    /**
+     * Returns the ids of the persons in {@code category}, ignoring case.
+     *
+     * @see CategoryMatchesPredicate
+     */
+    public Set<PersonId> findIdsByCategory(String category) {
+        requireNonNull(category);
+        return categoryIndex.findIds(category);
+    }
+
+    /**
+     * Returns the number of persons in {@code category}, ignoring case.
+     */
+    public int countByCategory(String category) {
+        requireNonNull(category);
+        return categoryIndex.count(category);
+    }
+
+    /**
+     * Returns the ids of the persons whose wedding is between {@code from} and {@code to}, both inclusive, in the
+     * order of their wedding dates.
+     *
+     * @see WeddingDateInRangePredicate
+     */
+    public Set<PersonId> findIdsByWeddingDate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return weddingDateIndex.findIds(from, to);
+    }
+
+    /**
+     * Returns the ids of the persons whose price has any amount from {@code from} to {@code to}, both inclusive,
+     * in ascending order of the lowest amounts of their prices.
+     */
+    public Set<PersonId> findIdsByPriceOverlapping(long from, long to) {
+        return priceIndex.findOverlapping(from, to);
+    }
+
+    /**
+     * Returns the ids of the persons whose budget has any amount from {@code from} to {@code to}, both inclusive,
+     * in ascending order of the lowest amounts of their budgets.
+     */
+    public Set<PersonId> findIdsByBudgetOverlapping(long from, long to) {
+        return budgetIndex.findOverlapping(from, to);
     }
 
     /**
@@ -43,10 +144,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+        phoneIndex.put(toAdd);
+        addToSearchIndexes(toAdd);
+        if (versionedList != null) {
+            versionedList = versionedList.add(toAdd);
+            versionedById = versionedById.put(toAdd.getId(), toAdd);
+        }
     }
 
     /**
@@ -65,8 +173,111 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (!target.getId().equals(editedPerson.getId()) && personsById.containsKey(editedPerson.getId())) {
+            throw new DuplicatePersonException();
+        }
 
         internalList.set(index, editedPerson);
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
+        phoneIndex.remove(target.getPhone().toKey());
+        phoneIndex.put(editedPerson);
+        removeFromSearchIndexes(target);
+        addToSearchIndexes(editedPerson);
+        if (versionedList != null) {
+            versionedList = versionedList.set(index, editedPerson);
+            versionedById = versionedById.remove(target.getId()).put(editedPerson.getId(), editedPerson);
+        }
+    }
+
+    /**
+     * Replaces each person in the key set of {@code replacements} with the person it maps to, notifying the listeners
+     * of the list once for all of them.
+     * Every key must exist in the list, and after the replacements no two persons in the list may be the same person
+     * or share an id. These are checked before anything is replaced, so either every replacement is made or none is.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+        if (replacements.size() == 1) {
+            Map.Entry<Person, Person> replacement = replacements.entrySet().iterator().next();
+            setPerson(replacement.getKey(), replacement.getValue());
+            return;
+        }
+
+        Set<PersonId> targetIds = new HashSet<>();
+        Set<Integer> targetPhoneKeys = new HashSet<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            Person target = replacement.getKey();
+            requireAllNonNull(target, replacement.getValue());
+            if (!target.equals(personsById.get(target.getId()))) {
+                throw new PersonNotFoundException();
+            }
+            targetIds.add(target.getId());
+            targetPhoneKeys.add(target.getPhone().toKey());
+        }
+
+        Set<PersonId> editedIds = new HashSet<>();
+        Set<Integer> editedPhoneKeys = new HashSet<>();
+        for (Person editedPerson : replacements.values()) {
+            PersonId id = editedPerson.getId();
+            int phoneKey = editedPerson.getPhone().toKey();
+            if (!editedIds.add(id) || (personsById.containsKey(id) && !targetIds.contains(id))
+                    || !editedPhoneKeys.add(phoneKey)
+                    || (phoneIndex.get(phoneKey) != null && !targetPhoneKeys.contains(phoneKey))) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int[] positions = new int[replacements.size()];
+        List<Person> targets = new ArrayList<>(replacements.size());
+        List<Person> editedPersons = new ArrayList<>(replacements.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (targetIds.contains(person.getId())) {
+                positions[targets.size()] = i;
+                targets.add(person);
+                editedPersons.add(replacements.get(person));
+            }
+        }
+
+        internalList.batch(() -> {
+            try {
+                // All targets leave the indexes before any edited person joins them, as ids and phone numbers may
+                // move from one person in the batch to another
+                for (Person target : targets) {
+                    personsById.remove(target.getId());
+                    phoneIndex.remove(target.getPhone().toKey());
+                    removeFromSearchIndexes(target);
+                }
+                for (int i = 0; i < targets.size(); i++) {
+                    Person editedPerson = editedPersons.get(i);
+                    internalList.set(positions[i], editedPerson);
+                    personsById.put(editedPerson.getId(), editedPerson);
+                    phoneIndex.put(editedPerson);
+                    addToSearchIndexes(editedPerson);
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < targets.size(); i++) {
+                    internalList.set(positions[i], targets.get(i));
+                }
+                rebuildIndexes();
+                throw e;
+            }
+        });
+
+        if (versionedList != null) {
+            for (Person target : targets) {
+                versionedById = versionedById.remove(target.getId());
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                Person editedPerson = editedPersons.get(i);
+                versionedList = versionedList.set(positions[i], editedPerson);
+                versionedById = versionedById.put(editedPerson.getId(), editedPerson);
+            }
+        }
     }
 
     /**
@@ -75,14 +286,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        personsById.remove(toRemove.getId());
+        phoneIndex.remove(toRemove.getPhone().toKey());
+        removeFromSearchIndexes(toRemove);
+        if (versionedList != null) {
+            versionedList = versionedList.remove(index);
+            versionedById = versionedById.remove(toRemove.getId());
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsById = new HashMap<>(replacement.personsById);
+        phoneIndex.putAll(internalList);
+        rebuildSearchIndexes(internalList);
+        versionedList = replacement.snapshotList();
+        versionedById = replacement.snapshotIdIndex();
     }
 
     /**
@@ -91,11 +316,88 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<PersonId, Person> replacementById = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            replacementById.put(person.getId(), person);
+        }
+        PhoneIndex replacementIndex = new PhoneIndex();
+        replacementIndex.putAll(persons);
+        // Any two persons sharing an id or a phone number collapse into one index entry
+        if (replacementById.size() != persons.size() || replacementIndex.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsById = replacementById;
+        phoneIndex = replacementIndex;
+        rebuildSearchIndexes(persons);
+        // Built when a snapshot is next taken, as building it now would be wasted if the list is replaced again first
+        versionedList = null;
+        versionedById = null;
+    }
+
+    private void rebuildIndexes() {
+        personsById = new HashMap<>(internalList.size() * 2);
+        for (Person person : internalList) {
+            personsById.put(person.getId(), person);
+        }
+        phoneIndex = new PhoneIndex();
+        phoneIndex.putAll(internalList);
+        rebuildSearchIndexes(internalList);
+    }
+
+    private void addToSearchIndexes(Person person) {
+        nameIndex.put(person);
+        categoryIndex.put(person);
+        weddingDateIndex.put(person);
+        addToAmountIndexes(person);
+    }
+
+    private void addToAmountIndexes(Person person) {
+        person.getPrice().ifPresent(price -> priceIndex.put(person.getId(), price.getMin(), price.getMax()));
+        person.getBudget().ifPresent(budget -> budgetIndex.put(person.getId(), budget.getMin(), budget.getMax()));
+    }
+
+    private void removeFromSearchIndexes(Person person) {
+        nameIndex.remove(person);
+        categoryIndex.remove(person);
+        weddingDateIndex.remove(person);
+        priceIndex.remove(person.getId());
+        budgetIndex.remove(person.getId());
+    }
+
+    private void rebuildSearchIndexes(List<Person> persons) {
+        nameIndex.putAll(persons);
+        categoryIndex.putAll(persons);
+        weddingDateIndex.putAll(persons);
+        priceIndex.clear();
+        budgetIndex.clear();
+        for (Person person : persons) {
+            addToAmountIndexes(person);
+        }
+    }
+
+    /**
+     * Returns the persons in the list as it is now, as a list that later changes to this list do not affect.
+     */
+    public PersistentList<Person> snapshotList() {
+        buildVersionsIfNeeded();
+        return versionedList;
+    }
+
+    /**
+     * Returns the persons in the list as it is now by id, as a map that later changes to this list do not affect.
+     */
+    public PersistentMap<PersonId, Person> snapshotIdIndex() {
+        buildVersionsIfNeeded();
+        return versionedById;
+    }
+
+    private void buildVersionsIfNeeded() {
+        if (versionedList == null) {
+            versionedList = PersistentList.copyOf(internalList);
+            versionedById = PersistentMap.copyOf(personsById);
+        }
     }
 
     /**
@@ -107,7 +409,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,18 +436,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
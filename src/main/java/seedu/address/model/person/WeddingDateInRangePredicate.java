@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s wedding date falls between two dates, both inclusive.
+ */
+public class WeddingDateInRangePredicate implements Predicate<Person> {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a predicate that matches weddings from {@code from} to {@code to}, both inclusive.
+     */
+    public WeddingDateInRangePredicate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getWeddingDate()
+                .map(weddingDate -> !weddingDate.getDate().isBefore(from) && !weddingDate.getDate().isAfter(to))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeddingDateInRangePredicate)) {
+            return false;
+        }
+
+        WeddingDateInRangePredicate otherPredicate = (WeddingDateInRangePredicate) other;
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index from wedding dates, in date order, to the ids of the persons whose wedding is on each date.
+ * Finding the weddings in a date window takes a logarithmic search for the start of the window plus time proportional
+ * to the number of weddings in it, no matter how many persons are in the address book.
+ */
+class WeddingDateIndex {
+
+    private final TreeMap<LocalDate, Set<PersonId>> idsByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under its wedding date, if it has one.
+     */
+    void put(Person person) {
+        requireNonNull(person);
+        person.getWeddingDate().ifPresent(date ->
+                idsByDate.computeIfAbsent(date.getDate(), unused -> new LinkedHashSet<>()).add(person.getId()));
+    }
+
+    /**
+     * Removes {@code person} from its wedding date, if it was added.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        person.getWeddingDate().ifPresent(date -> {
+            Set<PersonId> ids = idsByDate.get(date.getDate());
+            if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                idsByDate.remove(date.getDate());
+            }
+        });
+    }
+
+    /**
+     * Replaces all entries with {@code persons}.
+     */
+    void putAll(List<Person> persons) {
+        idsByDate.clear();
+        for (Person person : persons) {
+            put(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons whose wedding is between {@code from} and {@code to}, both inclusive, in the
+     * order of their wedding dates.
+     */
+    Set<PersonId> findIds(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        Set<PersonId> ids = new LinkedHashSet<>();
+        if (from.isAfter(to)) {
+            return ids;
+        }
+        idsByDate.subMap(from, true, to, true).values().forEach(ids::addAll);
+        return ids;
+    }
+
+    /**
+     * Returns the number of distinct wedding dates in the index.
+     */
+    int size() {
+        return idsByDate.size();
+    }
+}
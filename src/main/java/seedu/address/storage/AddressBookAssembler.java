@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Builds the model's {@code AddressBook} out of persons that are added one at a time, either as Jackson-friendly
+ * persons or as persons that were already decoded from a snapshot.
+ * Each adapted person is converted as soon as it is added, so the adapted persons do not need to be kept around.
+ */
+class AddressBookAssembler {
+
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Persons list contains duplicate person(s) (same phone number or id).";
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<List<PersonId>> linkedPersonIds = new ArrayList<>();
+    private final List<List<String>> linkedPersonPhones = new ArrayList<>();
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it after the persons added so far.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        persons.add(jsonAdaptedPerson.toModelType());
+        linkedPersonIds.add(jsonAdaptedPerson.getLinkedPersonIds().stream()
+                .filter(id -> id != null && PersonId.isValidPersonId(id))
+                .map(PersonId::new)
+                .collect(Collectors.toList()));
+        linkedPersonPhones.add(jsonAdaptedPerson.getLinkedPersonPhones());
+    }
+
+    /**
+     * Adds {@code person}, which is linked to the persons with {@code linkedIds}, after the persons added so far.
+     */
+    public void add(Person person, List<PersonId> linkedIds) {
+        persons.add(person);
+        linkedPersonIds.add(linkedIds);
+        linkedPersonPhones.add(List.of());
+    }
+
+    /**
+     * Returns an {@code AddressBook} with all the persons added so far and the links between them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        // Older files refer to linked persons by phone number instead of by id
+        Map<String, PersonId> idByPhone = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            idByPhone.put(person.getPhone().value, person.getId());
+        }
+
+        // Links are loaded in the order of the persons, so that converting a file always gives the same result
+        Map<PersonId, List<PersonId>> linkedIds = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            List<PersonId> ids = new ArrayList<>(linkedPersonIds.get(i));
+            linkedPersonPhones.get(i).stream()
+                    .map(idByPhone::get)
+                    .filter(Objects::nonNull)
+                    .forEach(ids::add);
+            if (!ids.isEmpty()) {
+                linkedIds.put(persons.get(i).getId(), ids);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.loadPersons(persons, linkedIds);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+}
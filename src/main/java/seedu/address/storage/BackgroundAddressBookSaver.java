@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a dedicated background thread.
+ * Each save request takes a copy of the address book, unless it is an {@link AddressBookSnapshot}, which never changes,
+ * so the caller can keep changing its own copy while the saved one is being written. Requests that arrive while an
+ * earlier one is still waiting to be written replace its data, so a burst of changes results in a single write of the
+ * latest data, no later than the maximum staleness after the first change of the burst.
+ * The time each write takes is reported to the listener of the request whose data it wrote.
+ */
+class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+    private final AddressBookStorage addressBookStorage;
+    private final long maxStalenessMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    // Guarded by this
+    private ReadOnlyAddressBook pending;
+    private LongConsumer pendingWriteTimeListener;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code addressBookStorage} at most
+     * {@code maxStalenessMillis} milliseconds after a save is requested.
+     */
+    BackgroundAddressBookSaver(AddressBookStorage addressBookStorage, long maxStalenessMillis) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.maxStalenessMillis = Math.max(0, maxStalenessMillis);
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Requests a save of a copy of {@code addressBook}, without waiting for it to be written.
+     */
+    void save(ReadOnlyAddressBook addressBook) {
+        save(addressBook, nanos -> {});
+    }
+
+    /**
+     * Requests a save of a copy of {@code addressBook}, without waiting for it to be written, and reports the time
+     * the write takes in nanoseconds to {@code writeTimeListener} on the saving thread. The listener is not called if
+     * a later request replaces this one before it is written.
+     */
+    void save(ReadOnlyAddressBook addressBook, LongConsumer writeTimeListener) {
+        requireNonNull(addressBook);
+        requireNonNull(writeTimeListener);
+        ReadOnlyAddressBook copy = addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBook(addressBook);
+        synchronized (this) {
+            boolean isWriteScheduled = pending != null;
+            pending = copy;
+            pendingWriteTimeListener = writeTimeListener;
+            if (!isWriteScheduled) {
+                executor.schedule(this::writePending, maxStalenessMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Returns the error from the latest save, if it failed.
+     */
+    Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure.get());
+    }
+
+    /**
+     * Returns the error from the latest save, if it failed and has not been taken before.
+     */
+    Optional<IOException> takeFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Writes any pending save right away, and blocks until every save requested so far has been written.
+     */
+    void awaitPendingSaves() throws InterruptedIOException {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            // writePending handles its own errors, so this only happens if writing threw an unchecked exception
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        LongConsumer writeTimeListener;
+        synchronized (this) {
+            addressBook = pending;
+            writeTimeListener = pendingWriteTimeListener;
+            pending = null;
+            pendingWriteTimeListener = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+            failure.set(null);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            failure.set(e);
+        }
+        writeTimeListener.accept(System.nanoTime() - startTime);
+    }
+
+}
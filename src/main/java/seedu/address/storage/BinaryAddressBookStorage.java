@@ -0,0 +1,410 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.category.Category;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Budget;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Price;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Every distinct string is stored only once, and the snapshot ends with a checksum so that the persons in it can
+ * be loaded without validating their fields again, so it is much faster to open than the equivalent json file.
+ *
+ * Files whose names end in {@code .json} are read and written as json instead, so that json remains available for
+ * importing and exporting data. If the snapshot does not exist yet, the json file with the same name is imported.
+ *
+ * <p>Format (all numbers are big-endian):
+ * <pre>
+ * int magic, int version
+ * int stringCount, then for each string: int byteLength, UTF-8 bytes
+ * int personCount, then for each person: long, long (the two halves of its id)
+ * then for each person: int recordLength, followed by a record of recordLength bytes holding
+ *     int name, phone, email, address, weddingDate, type, price, budget, partner (string indices, -1 if absent)
+ *     int categoryCount, int category (string index) * categoryCount
+ *     int linkCount, int linkedPerson (person index) * linkCount
+ * int checksum (CRC32C of all the bytes before it)
+ * </pre>
+ * Readers skip any bytes at the end of a record that they do not know about, so later versions can add fields.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book file version %d is not supported.";
+
+    static final int MAGIC = 0x4B4E424B; // "KNBK"
+    static final int VERSION = 2;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int ABSENT = -1;
+
+    // Positions of the string fields in a record
+    private static final int NAME = 0;
+    private static final int PHONE = 1;
+    private static final int EMAIL = 2;
+    private static final int ADDRESS = 3;
+    private static final int WEDDING_DATE = 4;
+    private static final int TYPE = 5;
+    private static final int PRICE = 6;
+    private static final int BUDGET = 7;
+    private static final int PARTNER = 8;
+    private static final int FIELD_COUNT = 9;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary snapshot, rather than a json file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the json file that is imported when the snapshot at {@code filePath} does not exist yet.
+     */
+    static Path getImportFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + JSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+        if (!Files.exists(filePath)) {
+            Path importFilePath = getImportFilePath(filePath);
+            if (Files.exists(importFilePath)) {
+                logger.info("Importing data from " + importFilePath);
+            }
+            return new JsonAddressBookStorage(importFilePath).readAddressBook();
+        }
+
+        try {
+            return Optional.of(readSnapshot(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static ReadOnlyAddressBook readSnapshot(Path filePath) throws IOException, IllegalValueException {
+        // Read rather than memory-mapped: a mapping keeps the file open until it is garbage collected, which stops
+        // the next save from replacing the file on Windows
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            verifyChecksum(buffer);
+
+            String[] strings = new String[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(buffer, 1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            PersonId[] ids = new PersonId[readCount(buffer, 2 * Long.BYTES)];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = PersonId.of(new UUID(buffer.getLong(), buffer.getLong()));
+            }
+
+            RecordDecoder decoder = new RecordDecoder(strings);
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            for (PersonId id : ids) {
+                int recordLength = readCount(buffer, 1);
+                int recordEnd = buffer.position() + recordLength;
+
+                int[] fields = new int[FIELD_COUNT];
+                for (int i = 0; i < fields.length; i++) {
+                    int index = buffer.getInt();
+                    fields[i] = index == ABSENT ? ABSENT : checkIndex(index, strings.length);
+                }
+                int[] categories = new int[readCount(buffer, Integer.BYTES)];
+                for (int i = 0; i < categories.length; i++) {
+                    categories[i] = readIndex(buffer, strings.length);
+                }
+                List<PersonId> linkedIds = new ArrayList<>();
+                for (int i = readCount(buffer, Integer.BYTES); i > 0; i--) {
+                    linkedIds.add(ids[readIndex(buffer, ids.length)]);
+                }
+
+                if (buffer.position() > recordEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                buffer.position(recordEnd);
+                assembler.add(decoder.toPerson(id, fields, categories), linkedIds);
+            }
+            return assembler.toAddressBook();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Checks the checksum at the end of {@code buffer} against the bytes before it, and then leaves the checksum out
+     * of the rest of the buffer.
+     */
+    private static void verifyChecksum(ByteBuffer buffer) throws IllegalValueException {
+        int checksumPosition = buffer.limit() - Integer.BYTES;
+        if (checksumPosition < buffer.position()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, checksumPosition);
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        buffer.limit(checksumPosition);
+    }
+
+    /**
+     * Reads a count of items that take up at least {@code minItemBytes} each, checking that they can fit in the
+     * rest of {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer, int minItemBytes) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minItemBytes > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static int readIndex(ByteBuffer buffer, int size) throws IllegalValueException {
+        return checkIndex(buffer.getInt(), size);
+    }
+
+    private static int checkIndex(int index, int size) throws IllegalValueException {
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return index;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file first, so that a failed save leaves the previous snapshot intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        CRC32C checksum = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(Files.newOutputStream(tempFilePath), checksum)))) {
+            writeSnapshot(addressBook, out);
+            out.flush();
+            out.writeInt((int) checksum.getValue());
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        List<int[]> records = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            records.add(toRecord(person, stringIndices));
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        Map<PersonId, Integer> personIndices = new HashMap<>(persons.size() * 2);
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            personIndices.put(person.getId(), personIndices.size());
+            UUID id = UUID.fromString(person.getId().value);
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            int[] record = records.get(i);
+            List<Person> linkedPersons = addressBook.getLinkedPersons(persons.get(i));
+            out.writeInt((record.length + 1 + linkedPersons.size()) * Integer.BYTES);
+            for (int field : record) {
+                out.writeInt(field);
+            }
+            out.writeInt(linkedPersons.size());
+            for (Person linkedPerson : linkedPersons) {
+                out.writeInt(personIndices.get(linkedPerson.getId()));
+            }
+        }
+    }
+
+    /**
+     * Returns the string fields and categories of {@code person} as indices into {@code stringIndices}, adding any
+     * strings that are not in it yet.
+     */
+    private static int[] toRecord(Person person, Map<String, Integer> stringIndices) {
+        String weddingDate = person.getType() == PersonType.VENDOR
+                ? null
+                : person.getWeddingDate().map(WeddingDate::toString).orElse(null);
+        String[] fields = {
+            person.getName().fullName,
+            person.getPhone().value,
+            person.getEmail().value,
+            person.getAddress().value,
+            weddingDate,
+            person.getType().toString(),
+            person.getPrice().map(price -> price.value).orElse(null),
+            person.getBudget().map(budget -> budget.value).orElse(null),
+            person.getPartner().map(partner -> partner.value).orElse(null)
+        };
+
+        int[] record = new int[fields.length + 1 + person.getCategories().size()];
+        for (int i = 0; i < fields.length; i++) {
+            record[i] = indexOf(fields[i], stringIndices);
+        }
+        record[fields.length] = person.getCategories().size();
+        int i = fields.length + 1;
+        for (Category category : person.getCategories()) {
+            record[i++] = indexOf(category.categoryName, stringIndices);
+        }
+        return record;
+    }
+
+    private static int indexOf(String string, Map<String, Integer> stringIndices) {
+        if (string == null) {
+            return ABSENT;
+        }
+        return stringIndices.computeIfAbsent(string, unused -> stringIndices.size());
+    }
+
+    /**
+     * Turns the records of a snapshot back into persons.
+     * Each distinct category, wedding date, price and budget is decoded once and shared by all the persons with it.
+     */
+    private static class RecordDecoder {
+        private final String[] strings;
+        private final Map<Integer, Category> categories = new HashMap<>();
+        private final Map<Integer, WeddingDate> weddingDates = new HashMap<>();
+        private final Map<Integer, Price> prices = new HashMap<>();
+        private final Map<Integer, Budget> budgets = new HashMap<>();
+
+        RecordDecoder(String[] strings) {
+            this.strings = strings;
+        }
+
+        /**
+         * Returns the person of a checksummed record, whose fields were validated before they were saved.
+         */
+        Person toPerson(PersonId id, int[] fields, int[] categoryIndices) {
+            Set<Category> personCategories = new HashSet<>();
+            for (int index : categoryIndices) {
+                personCategories.add(decode(index, categories, Category::new));
+            }
+            return Person.ofValidatedFields(id, stringAt(fields[NAME]), stringAt(fields[PHONE]),
+                    stringAt(fields[EMAIL]), stringAt(fields[ADDRESS]),
+                    decode(fields[WEDDING_DATE], weddingDates, WeddingDate::parse),
+                    PersonType.parse(stringAt(fields[TYPE])), personCategories,
+                    decode(fields[PRICE], prices, Price::new), decode(fields[BUDGET], budgets, Budget::new),
+                    stringAt(fields[PARTNER]));
+        }
+
+        private String stringAt(int index) {
+            return index == ABSENT ? null : strings[index];
+        }
+
+        private <T> T decode(int index, Map<Integer, T> decoded, Function<String, T> decoder) {
+            return index == ABSENT ? null : decoded.computeIfAbsent(index, unused -> decoder.apply(strings[index]));
+        }
+    }
+
+}
@@ -0,0 +1,491 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since the snapshot
+ * was written.
+ * Saving only appends the persons that were added, edited, relinked or removed since the last save, so commands that
+ * do not change the data do not touch the disk at all. When the address book was only edited since it was last saved,
+ * the changed persons are found by comparing its snapshots, without looking at the persons that did not change.
+ * Once the journal holds more than the compaction threshold of entries, the next save writes a full snapshot and
+ * clears the journal.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final long UNKNOWN_GENERATION = -1;
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // The data as last written to filePath, or null if it is not known and the next save must write a snapshot
+    private LinkedHashMap<PersonId, Person> savedPersons;
+    private Map<PersonId, Set<PersonId>> savedLinks;
+    private int journalSize;
+    // The snapshot of the address book that was last written, if it had one
+    private AddressBookSnapshot savedSnapshot;
+    // The generation of the snapshot at filePath, which every journal entry appended to it records
+    private long generation = UNKNOWN_GENERATION;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the snapshot at {@code filePath}.
+     *
+     * @param compactionThreshold the number of journal entries after which a full snapshot is written.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes its snapshots with {@code snapshotStorage}.
+     *
+     * @param compactionThreshold the number of journal entries after which a full snapshot is written.
+     */
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(snapshotStorage.getAddressBookFilePath());
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Replays the journal, if any, on top of the snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        long snapshotGeneration = 0;
+        String journal;
+        int journalSize;
+        boolean hasPersonsWithoutId;
+        ReadOnlyAddressBook addressBook;
+        try {
+            if (Files.exists(filePath)) {
+                // Persons saved before ids existed are never referred to by the journal, so any unique key will do
+                snapshotGeneration = JsonAddressBookStorage.readPersons(filePath, person ->
+                        persons.put(person.getId() != null ? person.getId() : "#" + persons.size(), person));
+            }
+            hasPersonsWithoutId = persons.values().stream().anyMatch(person -> person.getId() == null);
+
+            journal = Files.exists(journalFilePath) ? FileUtil.readFromFile(journalFilePath) : "";
+            journalSize = replay(journal, snapshotGeneration, persons);
+
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            for (JsonAdaptedPerson person : persons.values()) {
+                assembler.add(person);
+            }
+            addressBook = assembler.toAddressBook();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        // Appending after a partly written entry would corrupt the entries that follow it, and entries appended
+        // for persons without a saved id would not replace them, so both cases need a fresh snapshot first
+        boolean isJournalComplete = journal.isEmpty() || journal.endsWith("\n");
+        if (filePath.equals(this.filePath)) {
+            if (isJournalComplete && !hasPersonsWithoutId) {
+                remember(addressBook, journalSize);
+            } else {
+                forget();
+            }
+            generation = snapshotGeneration;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries in {@code journal} that were written after the snapshot of {@code snapshotGeneration} to
+     * {@code persons}, a map from saved person id to the adapted person.
+     * Entries of any other generation were left behind when the app was stopped before an older journal could be
+     * deleted, and are skipped. So is a partly written entry at the end of the journal, left behind if the app was
+     * stopped while saving.
+     *
+     * @return the number of complete entries in the journal, including skipped ones.
+     */
+    private static int replay(String journal, long snapshotGeneration, Map<String, JsonAdaptedPerson> persons)
+            throws IOException, IllegalValueException {
+        String[] lines = journal.split("\n", -1);
+        int entryCount = 0;
+        int staleEntryCount = 0;
+        // The last line is whatever follows the final line break, which is only non-empty if a write was cut short
+        for (int i = 0; i < lines.length - 1; i++) {
+            if (lines[i].isEmpty()) {
+                continue;
+            }
+            JsonAdaptedJournalEntry entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            entry.checkValid();
+            if (entry.getGeneration() == snapshotGeneration) {
+                entry.applyTo(persons);
+            } else {
+                staleEntryCount++;
+            }
+            entryCount++;
+        }
+        if (staleEntryCount > 0) {
+            logger.warning("Skipping " + staleEntryCount + " journal entries left behind by an older snapshot");
+        }
+        if (!lines[lines.length - 1].isEmpty()) {
+            logger.warning("Skipping partly written journal entry: " + lines[lines.length - 1]);
+        }
+        return entryCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file path are journaled; saves to any other path write a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        // Every change to an address book publishes a new snapshot, so the same snapshot means no change at all
+        AddressBookSnapshot snapshot = getSnapshot(addressBook);
+        if (savedPersons != null && snapshot != null && snapshot == savedSnapshot) {
+            return;
+        }
+
+        List<Change> changes;
+        if (savedPersons == null) {
+            changes = null;
+        } else if (snapshot != null && savedSnapshot != null && snapshot.isEditedFrom(savedSnapshot)) {
+            changes = diff(snapshot, snapshot.getChangedPersonIds(savedSnapshot));
+        } else {
+            changes = diff(addressBook);
+        }
+        if (changes != null && changes.isEmpty()) {
+            savedSnapshot = snapshot;
+            return;
+        }
+
+        try {
+            if (changes == null || journalSize + changes.size() > compactionThreshold) {
+                writeSnapshot(addressBook, filePath);
+                remember(addressBook, 0);
+            } else {
+                appendToJournal(changes, getJournalFilePath(filePath));
+                for (Change change : changes) {
+                    change.applyTo(savedPersons, savedLinks);
+                }
+                journalSize += changes.size();
+            }
+            savedSnapshot = snapshot;
+        } catch (IOException e) {
+            // The files may now be partly written, so start over from a full snapshot next time
+            forget();
+            throw e;
+        }
+    }
+
+    private static AddressBookSnapshot getSnapshot(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).getSnapshot();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the changes that turn the saved data into {@code addressBook},
+     * or null if replaying journal entries cannot reproduce the order of its persons.
+     */
+    private List<Change> diff(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        if (!isReplayOrder(persons)) {
+            return null;
+        }
+
+        List<Change> changes = new ArrayList<>();
+        Set<PersonId> currentIds = new HashSet<>(persons.size() * 2);
+        for (Person person : persons) {
+            currentIds.add(person.getId());
+            toChange(addressBook, person).ifPresent(changes::add);
+        }
+        for (PersonId savedId : savedPersons.keySet()) {
+            if (!currentIds.contains(savedId)) {
+                changes.add(toRemoval(savedId));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the changes that turn the saved data into {@code snapshot}, which was edited from the saved snapshot by
+     * adding, editing, removing or relinking the persons with {@code changedIds},
+     * or null if replaying journal entries cannot reproduce the order of its persons.
+     * Only the changed persons are looked at, so this takes time in proportion to the number of changes.
+     */
+    private List<Change> diff(AddressBookSnapshot snapshot, Set<PersonId> changedIds) {
+        List<Change> changes = new ArrayList<>();
+        int newPersonCount = 0;
+        for (PersonId id : changedIds) {
+            Optional<Person> person = snapshot.findPersonById(id);
+            if (person.isPresent() && savedPersons.containsKey(id)) {
+                toChange(snapshot, person.get()).ifPresent(changes::add);
+            } else if (person.isPresent()) {
+                newPersonCount++;
+            } else if (savedPersons.containsKey(id)) {
+                changes.add(toRemoval(id));
+            }
+        }
+
+        // Replayed entries add new persons after all the others, so the new persons must be the last ones
+        List<Person> persons = snapshot.getPersonList();
+        for (int i = persons.size() - newPersonCount; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (savedPersons.containsKey(person.getId())) {
+                return null;
+            }
+            toChange(snapshot, person).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the change that puts {@code person} of {@code addressBook} into the saved data, if it is new or differs
+     * from the saved person with its id.
+     */
+    private Optional<Change> toChange(ReadOnlyAddressBook addressBook, Person person) {
+        PersonId id = person.getId();
+        List<Person> linkedPersons = addressBook.getLinkedPersons(person);
+        Set<PersonId> linkedIds = toIds(linkedPersons);
+        Person savedPerson = savedPersons.get(id);
+        boolean isUnchanged = savedPerson != null
+                && (savedPerson == person || savedPerson.equals(person))
+                && linkedIds.equals(savedLinks.getOrDefault(id, Collections.emptySet()));
+        if (isUnchanged) {
+            return Optional.empty();
+        }
+        return Optional.of(new Change(id, person, linkedIds,
+                JsonAdaptedJournalEntry.put(generation, new JsonAdaptedPerson(person, linkedPersons))));
+    }
+
+    private Change toRemoval(PersonId savedId) {
+        return new Change(savedId, null, Collections.emptySet(), JsonAdaptedJournalEntry.remove(generation, savedId));
+    }
+
+    /**
+     * Returns true if replaying journal entries on the saved data lists {@code persons} in the same order, that is,
+     * if the persons that were already saved kept their relative order and all new persons come after them.
+     */
+    private boolean isReplayOrder(List<Person> persons) {
+        Iterator<PersonId> savedIds = savedPersons.keySet().iterator();
+        boolean hasNewPerson = false;
+        for (Person person : persons) {
+            PersonId id = person.getId();
+            if (!savedPersons.containsKey(id)) {
+                hasNewPerson = true;
+                continue;
+            }
+            if (hasNewPerson) {
+                return false;
+            }
+            boolean isFound = false;
+            while (!isFound && savedIds.hasNext()) {
+                isFound = savedIds.next().equals(id);
+            }
+            if (!isFound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records {@code addressBook} as the data last written to this storage's file path.
+     */
+    private void remember(ReadOnlyAddressBook addressBook, int journalSize) {
+        LinkedHashMap<PersonId, Person> persons = new LinkedHashMap<>();
+        Map<PersonId, Set<PersonId>> links = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getId(), person);
+            Set<PersonId> linkedIds = toIds(addressBook.getLinkedPersons(person));
+            if (!linkedIds.isEmpty()) {
+                links.put(person.getId(), linkedIds);
+            }
+        }
+        savedPersons = persons;
+        savedLinks = links;
+        savedSnapshot = getSnapshot(addressBook);
+        this.journalSize = journalSize;
+    }
+
+    private void forget() {
+        savedPersons = null;
+        savedLinks = null;
+        savedSnapshot = null;
+        journalSize = 0;
+        generation = UNKNOWN_GENERATION;
+    }
+
+    private static Set<PersonId> toIds(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath} and deletes its journal.
+     * The snapshot records a generation one higher than the snapshot it replaces, while the entries in the journal
+     * record the generation of the snapshot they were appended to. So if the app stops after the snapshot is written
+     * but before the journal is deleted, the entries left in the journal are skipped when the data is next read.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine(() -> "Writing snapshot to data file: " + filePath);
+        long newGeneration = getGeneration(filePath) + 1;
+        snapshotStorage.saveAddressBook(addressBook, filePath, newGeneration);
+        if (filePath.equals(this.filePath)) {
+            generation = newGeneration;
+        }
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the generation of the snapshot at {@code filePath}, reading it from the snapshot if it is not known.
+     */
+    private long getGeneration(Path filePath) throws IOException {
+        if (filePath.equals(this.filePath) && generation != UNKNOWN_GENERATION) {
+            return generation;
+        }
+        try {
+            return JsonAddressBookStorage.readGeneration(filePath);
+        } catch (DataLoadingException e) {
+            // The journal of a snapshot that cannot be read cannot be replayed either, so nothing is lost with it
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return 0;
+        }
+    }
+
+    /**
+     * Appends the journal entries of {@code changes} to the journal, one per line, and flushes them to the disk with a
+     * single sync.
+     */
+    private static void appendToJournal(List<Change> changes, Path journalFilePath) throws IOException {
+        StringBuilder batch = new StringBuilder();
+        for (Change change : changes) {
+            batch.append(JsonUtil.toCompactJsonString(change.entry)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * A journal entry, together with the change that replaying it makes to the saved data.
+     */
+    private static class Change {
+        private final PersonId id;
+        private final Person person; // null if the person is removed
+        private final Set<PersonId> linkedIds;
+        private final JsonAdaptedJournalEntry entry;
+
+        Change(PersonId id, Person person, Set<PersonId> linkedIds, JsonAdaptedJournalEntry entry) {
+            this.id = id;
+            this.person = person;
+            this.linkedIds = linkedIds;
+            this.entry = entry;
+        }
+
+        /**
+         * Makes this change to {@code persons} and {@code links}, the saved data, in the same way as replaying the
+         * journal entry would: a changed person keeps its place, and a new person goes after all the others.
+         */
+        void applyTo(Map<PersonId, Person> persons, Map<PersonId, Set<PersonId>> links) {
+            if (person == null) {
+                persons.remove(id);
+            } else {
+                persons.put(id, person);
+            }
+            if (linkedIds.isEmpty()) {
+                links.remove(id);
+            } else {
+                links.put(id, linkedIds);
+            }
+        }
+    }
+
+}
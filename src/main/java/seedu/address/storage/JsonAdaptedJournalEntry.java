@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * An entry either saves a person together with its links, replacing any earlier version of the person with the same
+ * id, or removes the person with a given id. It also records the generation of the snapshot it was written after, so
+ * that entries left behind by an older snapshot are not replayed on top of a newer one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry should either save or remove a person.";
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long generation;
+    private final JsonAdaptedPerson put;
+    private final String remove;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     * Entries written before generations were recorded have generation 0.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("generation") long generation,
+            @JsonProperty("put") JsonAdaptedPerson put, @JsonProperty("remove") String remove) {
+        this.generation = generation;
+        this.put = put;
+        this.remove = remove;
+    }
+
+    /**
+     * Returns an entry of {@code generation} that saves {@code person}.
+     */
+    public static JsonAdaptedJournalEntry put(long generation, JsonAdaptedPerson person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(generation, person, null);
+    }
+
+    /**
+     * Returns an entry of {@code generation} that removes the person with the given {@code id}.
+     */
+    public static JsonAdaptedJournalEntry remove(long generation, PersonId id) {
+        requireNonNull(id);
+        return new JsonAdaptedJournalEntry(generation, null, id.value);
+    }
+
+    /**
+     * Returns the generation of the snapshot this entry was written after.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Applies this entry to {@code persons}, a map from saved person id to the adapted person.
+     * A saved person keeps its position if it is already in the map, and is appended otherwise.
+     *
+     * @throws IllegalValueException if this entry neither saves nor removes a person.
+     */
+    public void applyTo(Map<String, JsonAdaptedPerson> persons) throws IllegalValueException {
+        checkValid();
+        if (put != null) {
+            persons.put(put.getId(), put);
+        } else {
+            persons.remove(remove);
+        }
+    }
+
+    /**
+     * Checks that this entry either saves a person with an id or removes a person, but not both.
+     *
+     * @throws IllegalValueException if this entry neither saves nor removes a person.
+     */
+    public void checkValid() throws IllegalValueException {
+        boolean isPut = put != null && put.getId() != null && remove == null;
+        boolean isRemove = put == null && remove != null;
+        if (!isPut && !isRemove) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -8,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,6 +22,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Partner;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.PersonType;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
@@ -30,6 +34,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -40,18 +45,25 @@ class JsonAdaptedPerson {
     private final String budget;
     private final List<JsonAdaptedCategory> tags = new ArrayList<>();
     private final String partner;
+    private final List<String> linkedPersonIds = new ArrayList<>();
+
+    // Links as saved by versions before persons had ids; read for migration but never written
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<String> linkedPersonPhones = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") String id,
+            @JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("weddingDate") String weddingDate, @JsonProperty("type") String type,
             @JsonProperty("price") String price, @JsonProperty("budget") String budget,
             @JsonProperty("partner") String partner, @JsonProperty("tags") List<JsonAdaptedCategory> tags,
+            @JsonProperty("linkedPersonIds") List<String> linkedPersonIds,
             @JsonProperty("linkedPersonPhones") List<String> linkedPersonPhones) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,15 +76,26 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        if (linkedPersonIds != null) {
+            this.linkedPersonIds.addAll(linkedPersonIds);
+        }
         if (linkedPersonPhones != null) {
             this.linkedPersonPhones.addAll(linkedPersonPhones);
         }
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} without any links into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, Collections.emptyList());
+    }
+
+    /**
+     * Converts a given {@code Person} and the persons linked to it into this class for Jackson use.
+     */
+    public JsonAdaptedPerson(Person source, Collection<Person> linkedPersons) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -87,13 +110,27 @@ class JsonAdaptedPerson {
         tags.addAll(source.getCategories().stream()
                 .map(JsonAdaptedCategory::new)
                 .collect(Collectors.toList()));
-        linkedPersonPhones.addAll(source.getLinkedPersons().stream()
-                .map(person -> person.getPhone().value)
+        linkedPersonIds.addAll(linkedPersons.stream()
+                .map(person -> person.getId().value)
                 .collect(Collectors.toList()));
     }
 
     /**
-     * Returns the list of linked person phone numbers.
+     * Returns the saved id of this person, or null if the person was saved before persons had ids.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the list of linked person ids.
+     */
+    public List<String> getLinkedPersonIds() {
+        return new ArrayList<>(linkedPersonIds);
+    }
+
+    /**
+     * Returns the list of linked person phone numbers saved by older versions.
      */
     public List<String> getLinkedPersonPhones() {
         return new ArrayList<>(linkedPersonPhones);
@@ -128,6 +165,16 @@ class JsonAdaptedPerson {
         }
         final Phone modelPhone = new Phone(phone);
 
+        final PersonId modelId;
+        if (id == null) {
+            // Saved before persons had ids
+            modelId = PersonId.fromLegacyPhone(modelPhone);
+        } else if (!PersonId.isValidPersonId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        } else {
+            modelId = new PersonId(id);
+        }
+
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
@@ -205,15 +252,13 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Person.MSG_WEDDING_DATE_FORBIDDEN_FOR_VENDOR);
         }
 
-        // Create a set to hold linked persons (will be populated later in JsonSerializableAddressBook)
-        Set<Person> modelLinkedPersons = new HashSet<>();
-
+        // Links are resolved separately in AddressBookAssembler
         if (modelType == PersonType.VENDOR) {
-            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelType,
-                    modelCategories, modelLinkedPersons, modelPrice);
+            return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelType,
+                    modelCategories, modelPrice);
         } else {
-            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelWeddingDate,
-                    modelType, modelCategories, modelLinkedPersons, modelPrice, modelBudget, modelPartner);
+            return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelWeddingDate,
+                    modelType, modelCategories, modelPrice, modelBudget, modelPartner);
         }
     }
 
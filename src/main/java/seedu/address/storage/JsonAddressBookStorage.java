@@ -2,29 +2,54 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Persons are read and written one at a time, so the whole file never has to be held in memory as text.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    static final String PERSONS_FIELD = "persons";
+    static final String GENERATION_FIELD = "generation";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the file is indented for readability, or written compactly on a single line.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +70,97 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        AddressBookAssembler assembler = new AddressBookAssembler();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            readPersons(filePath, assembler::add);
+            return Optional.of(assembler.toAddressBook());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the persons in the file at {@code filePath} one at a time, passing each of them to {@code consumer}
+     * before reading the next.
+     *
+     * @return the generation the file was saved with, or 0 if it was saved without one.
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if {@code consumer} rejects a person.
+     */
+    static long readPersons(Path filePath, AdaptedPersonConsumer consumer)
+            throws DataLoadingException, IllegalValueException {
+        long generation = 0;
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (GENERATION_FIELD.equals(fieldName)) {
+                    generation = readGeneration(parser, value);
+                    continue;
+                }
+                if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    // Unknown fields are ignored, as they are when reading any other json file
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a list of persons");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return generation;
+    }
+
+    /**
+     * Returns the generation the file at {@code filePath} was saved with, or 0 if it was saved without one or does
+     * not exist. The generation is written before the persons, so they are not read.
+     *
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     */
+    static long readGeneration(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (GENERATION_FIELD.equals(fieldName)) {
+                    return readGeneration(parser, value);
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static long readGeneration(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, "Expected a generation number");
+        }
+        return parser.getLongValue();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,15 +168,46 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written to a temporary file first, so that a failed save leaves the previous file intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveAddressBook(addressBook, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also records {@code generation} in the file,
+     * unless it is 0. {@link #readPersons} returns the generation when the file is read back.
+     */
+    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, long generation) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (JsonGenerator generator = JsonUtil.createGenerator(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath)), isPrettyPrinted)) {
+            generator.writeStartObject();
+            if (generation != 0) {
+                generator.writeNumberField(GENERATION_FIELD, generation);
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person, addressBook.getLinkedPersons(person)));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Accepts persons as they are read from a json file.
+     */
+    @FunctionalInterface
+    interface AdaptedPersonConsumer {
+        void accept(JsonAdaptedPerson person) throws IllegalValueException;
     }
 
 }
@@ -1,11 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -15,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonType;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,8 +18,7 @@ import seedu.address.model.person.PersonType;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON =
-            "Persons list contains duplicate person(s) (same phone number).";
+    public static final String MESSAGE_DUPLICATE_PERSON = AddressBookAssembler.MESSAGE_DUPLICATE_PERSON;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -44,7 +37,9 @@ class JsonSerializableAddressBook {
      *               {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, source.getLinkedPersons(person)))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -53,73 +48,11 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        // First pass: Load all persons without links
-        Map<String, Person> personByPhone = new HashMap<>();
-        Map<Person, List<String>> personToLinkedPhones = new HashMap<>();
-
+        AddressBookAssembler assembler = new AddressBookAssembler();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-            personByPhone.put(person.getPhone().value, person);
-            personToLinkedPhones.put(person, jsonAdaptedPerson.getLinkedPersonPhones());
+            assembler.add(jsonAdaptedPerson);
         }
-
-        // Second pass: Resolve and add links
-        for (Map.Entry<Person, List<String>> entry : personToLinkedPhones.entrySet()) {
-            Person person = entry.getKey();
-            List<String> linkedPhones = entry.getValue();
-
-            if (!linkedPhones.isEmpty()) {
-                Set<Person> linkedPersons = new HashSet<>();
-                for (String linkedPhone : linkedPhones) {
-                    Person linkedPerson = personByPhone.get(linkedPhone);
-                    if (linkedPerson != null) {
-                        linkedPersons.add(linkedPerson);
-                    }
-                    // Silently ignore if linked person doesn't exist (data integrity issue)
-                }
-
-                if (!linkedPersons.isEmpty()) {
-                    // Create updated person with links
-                    Person updatedPerson;
-                    if (person.getType() == PersonType.CLIENT) {
-                        // For clients, use constructor with wedding date and budget
-                        updatedPerson = new Person(
-                                person.getName(),
-                                person.getPhone(),
-                                person.getEmail(),
-                                person.getAddress(),
-                                person.getWeddingDate().orElse(null),
-                                person.getType(),
-                                person.getCategories(),
-                                linkedPersons,
-                                person.getPrice().orElse(null),
-                                person.getBudget().orElse(null),
-                                person.getPartner()
-                        );
-                    } else {
-                        // For vendors, use constructor without wedding date
-                        updatedPerson = new Person(
-                                person.getName(),
-                                person.getPhone(),
-                                person.getEmail(),
-                                person.getAddress(),
-                                person.getType(),
-                                person.getCategories(),
-                                linkedPersons,
-                                person.getPrice().orElse(null));
-                    }
-                    addressBook.setPerson(person, updatedPerson);
-                }
-            }
-        }
-
-        return addressBook;
+        return assembler.toAddressBook();
     }
 
 }
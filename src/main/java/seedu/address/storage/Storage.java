@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +31,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves a copy of the given {@link ReadOnlyAddressBook} on a background thread, without waiting for it to be
+     * written. Saves requested in quick succession are combined into a single write of the latest data.
+     * An {@link AddressBookSnapshot} never changes, so it is saved as it is instead of being copied.
+     * @param addressBook cannot be null.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} on a background thread like
+     * {@link #saveAddressBookInBackground(ReadOnlyAddressBook)}, and reports the time the write takes in nanoseconds
+     * to {@code writeTimeListener} on that thread. The listener is not called if the save is combined with a later
+     * one before it is written.
+     * @param addressBook cannot be null.
+     * @param writeTimeListener cannot be null.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, LongConsumer writeTimeListener);
+
+    /**
+     * Returns the error from the latest background save, if it failed and has not been returned before.
+     */
+    Optional<IOException> takeBackgroundSaveFailure();
+
+    /**
+     * Blocks until every background save requested so far has been written.
+     * @throws IOException if the latest background save failed.
+     */
+    void flush() throws IOException;
+
 }
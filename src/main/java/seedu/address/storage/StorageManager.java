@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,13 +20,25 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundAddressBookSaver backgroundSaver;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes background saves as soon as possible.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes background saves at most {@code maxSaveStalenessMillis} milliseconds after they are requested.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long maxSaveStalenessMillis) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundSaver = new BackgroundAddressBookSaver(addressBookStorage, maxSaveStalenessMillis);
     }
 
     // ================ UserPrefs methods ==============================
@@ -60,7 +73,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -71,8 +84,34 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        // Write any older data waiting to be saved first, so that it cannot overwrite this data later
+        backgroundSaver.awaitPendingSaves();
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        backgroundSaver.save(addressBook);
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook, LongConsumer writeTimeListener) {
+        backgroundSaver.save(addressBook, writeTimeListener);
+    }
+
+    @Override
+    public Optional<IOException> takeBackgroundSaveFailure() {
+        return backgroundSaver.takeFailure();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        backgroundSaver.awaitPendingSaves();
+        Optional<IOException> failure = backgroundSaver.getFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
 }
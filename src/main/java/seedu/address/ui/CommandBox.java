@@ -6,9 +6,8 @@ import javafx.scene.control.TextArea;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -44,6 +43,7 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is disabled until the command has finished.
      */
     @FXML
     private void handleCommandEntered() {
@@ -52,12 +52,30 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setDisable(true);
+        commandExecutor.execute(commandText, new CommandRunner.Listener() {
+            @Override
+            public void commandSucceeded(CommandResult commandResult) {
+                commandFinished();
+                commandTextField.setText("");
+            }
+
+            @Override
+            public void commandFailed(String message) {
+                commandFinished();
+                setStyleToIndicateCommandFailure();
+            }
+
+            @Override
+            public void commandCancelled() {
+                commandFinished();
+            }
+        });
+    }
+
+    private void commandFinished() {
+        commandTextField.setDisable(false);
+        commandTextField.requestFocus();
     }
 
     /**
@@ -86,11 +104,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and tells {@code listener} how it ended on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandRunner#run(String, CommandRunner.Listener)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, CommandRunner.Listener listener);
     }
 
 }
@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CatCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
@@ -19,7 +20,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnlinkCommand;
+import seedu.address.logic.commands.WeddingsCommand;
 
 /**
  * Controller for a help page
@@ -64,6 +68,7 @@ public class HelpWindow extends UiPart<Stage> {
             createCommandPane("Add", AddCommand.MESSAGE_USAGE),
             createCommandPane("Cat", CatCommand.MESSAGE_USAGE),
             createCommandPane("Clear", ClearCommand.MESSAGE_USAGE),
+            createCommandPane("Conflicts", ConflictsCommand.MESSAGE_USAGE),
             createCommandPane("Delete", DeleteCommand.MESSAGE_USAGE),
             createCommandPane("Edit", EditCommand.MESSAGE_USAGE),
             createCommandPane("Exit", ExitCommand.MESSAGE_USAGE),
@@ -71,7 +76,10 @@ public class HelpWindow extends UiPart<Stage> {
             createCommandPane("Help", HelpCommand.MESSAGE_USAGE),
             createCommandPane("Link", LinkCommand.MESSAGE_USAGE),
             createCommandPane("List", ListCommand.MESSAGE_USAGE),
-            createCommandPane("Unlink", UnlinkCommand.MESSAGE_USAGE)
+            createCommandPane("Match", MatchCommand.MESSAGE_USAGE),
+            createCommandPane("Stats", StatsCommand.MESSAGE_USAGE),
+            createCommandPane("Unlink", UnlinkCommand.MESSAGE_USAGE),
+            createCommandPane("Weddings", WeddingsCommand.MESSAGE_USAGE)
         );
 
         helpMessageContainer.getChildren().addAll(welcomeLabel, accordion);
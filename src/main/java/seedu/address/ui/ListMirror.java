@@ -0,0 +1,72 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is changed on one thread, which follows its changes on the thread that
+ * an executor runs tasks on. Commands change the person list on the command thread, and JavaFX controls may only be
+ * touched on the JavaFX application thread, so the controls show a mirror of the list instead.
+ * Each change to the list is replayed on the mirror as a change of its own, in order, so the mirror keeps up in time
+ * proportional to the size of the change, and its listeners see the same fine-grained changes as the list's.
+ */
+class ListMirror<E> {
+
+    private final ObservableList<E> mirror;
+    private final ObservableList<E> unmodifiableMirror;
+    private final Executor executor;
+
+    /**
+     * Creates a mirror of {@code source} that follows its changes on {@code executor}, such as
+     * {@code Platform::runLater}. {@code source} must not be changed while the mirror is being created.
+     */
+    ListMirror(ObservableList<E> source, Executor executor) {
+        this.executor = executor;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::copyChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the mirror, which may only be used on the executor's thread.
+     */
+    ObservableList<E> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Copies {@code change} while it is valid, on the thread of the source, and hands the copy to the executor.
+     */
+    private void copyChange(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<E> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                steps.add(() -> replace(from, elements.size(), elements));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> replace(from, removedSize, added));
+            }
+        }
+        executor.execute(() -> steps.forEach(Runnable::run));
+    }
+
+    private void replace(int from, int removedSize, List<E> added) {
+        if (removedSize == added.size()) {
+            // Setting the elements one by one keeps an edited person selected in the list
+            for (int i = 0; i < added.size(); i++) {
+                mirror.set(from + i, added.get(i));
+            }
+            return;
+        }
+        mirror.remove(from, from + removedSize);
+        mirror.addAll(from, added);
+    }
+}
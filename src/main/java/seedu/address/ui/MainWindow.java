@@ -1,18 +1,25 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SplitPane;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,17 +29,24 @@ import seedu.address.model.person.Person;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    // Commands that finish sooner than this do not flash the progress of the command in the status bar
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
+    private ObservableList<Person> personList;
     private PersonListPanel personListPanel;
     private PersonDetailsPanel personDetailsPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private Person currentlySelectedPerson;
+    private CommandRunner.Execution runningCommand;
+    private final PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -56,14 +70,16 @@ public class MainWindow extends UiPart<Stage> {
     private SplitPane splitPane;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which executes commands with
+     * {@code commandRunner}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandRunner commandRunner) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = commandRunner;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -98,28 +114,45 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        // Commands change the filtered list on the command thread, so the window shows a mirror of it
+        personList = new ListMirror<>(logic.getFilteredPersonList(), Platform::runLater).getList();
         personListPanel = new PersonListPanel(
-                logic.getFilteredPersonList(),
+                personList,
                 this::onPersonSelected
         );
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        personDetailsPanel = new PersonDetailsPanel(null);
+        personDetailsPanel = new PersonDetailsPanel(null, List.of());
         personDetailsPlaceholder.getChildren().add(personDetailsPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        // Escape cancels the running command
+        primaryStage.getScene().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && runningCommand != null) {
+                event.consume();
+                runningCommand.cancel();
+            }
+        });
     }
 
     private void onPersonSelected(Person person) {
         currentlySelectedPerson = person;
-        personDetailsPanel.setPerson(person);
+        showPersonDetails(person);
+    }
+
+    private void showPersonDetails(Person person) {
+        List<Person> linkedPersons = person == null
+                ? List.of()
+                : logic.getAddressBookSnapshot().getLinkedPersons(person);
+        personDetailsPanel.setPerson(person, linkedPersons);
     }
 
     /**
@@ -167,33 +200,57 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command on the command thread, shows its progress in the status bar if it takes long, and
+     * shows its result once it has finished.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.CommandRunner#run(String, CommandRunner.Listener)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private void executeCommand(String commandText, CommandRunner.Listener commandBoxListener) {
+        runningCommand = commandRunner.run(commandText, new CommandRunner.Listener() {
+            @Override
+            public void commandSucceeded(CommandResult commandResult) {
+                commandFinished();
+                logger.info("Result: " + commandResult.getFeedbackToUser());
+                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+                if (commandResult.isShowHelp()) {
+                    handleHelp();
+                }
+
+                if (commandResult.isExit()) {
+                    handleExit();
+                }
+
+                // Refresh the details panel if a person is currently selected
+                refreshDetailsPanel();
+                commandBoxListener.commandSucceeded(commandResult);
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
+            @Override
+            public void commandFailed(String message) {
+                commandFinished();
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(message);
+                commandBoxListener.commandFailed(message);
             }
 
-            // Refresh the details panel if a person is currently selected
-            refreshDetailsPanel();
+            @Override
+            public void commandCancelled() {
+                commandFinished();
+                resultDisplay.setFeedbackToUser(Messages.MESSAGE_COMMAND_CANCELLED);
+                commandBoxListener.commandCancelled();
+            }
+        });
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        CommandRunner.Execution execution = runningCommand;
+        progressDelay.setOnFinished(event -> statusBarFooter.showCommandRunning(commandText, execution::cancel));
+        progressDelay.playFromStart();
+    }
+
+    private void commandFinished() {
+        runningCommand = null;
+        progressDelay.stop();
+        statusBarFooter.hideCommandRunning();
     }
 
     /**
@@ -206,20 +263,20 @@ public class MainWindow extends UiPart<Stage> {
             return;
         }
 
-        // Find the updated person object in the filtered list by matching phone number (unique identifier)
-        Person updatedPerson = logic.getFilteredPersonList().stream()
-                .filter(p -> p.getPhone().equals(currentlySelectedPerson.getPhone()))
+        // Find the updated person object in the filtered list by matching id, which survives edits
+        Person updatedPerson = personList.stream()
+                .filter(p -> p.getId().equals(currentlySelectedPerson.getId()))
                 .findFirst()
                 .orElse(null);
 
         // Update the details panel with the refreshed person data
         if (updatedPerson != null) {
             currentlySelectedPerson = updatedPerson;
-            personDetailsPanel.setPerson(updatedPerson);
+            showPersonDetails(updatedPerson);
         } else {
             // Person was deleted, clear the details panel
             currentlySelectedPerson = null;
-            personDetailsPanel.setPerson(null);
+            showPersonDetails(null);
         }
     }
 }
@@ -1,124 +1,157 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * The nodes are built in code once per card, and {@link #setPerson(Person, int)} fills them in with the data of a
+ * person, so a list cell can keep one card and reuse it for every person it shows.
  */
-public class PersonCard extends UiPart<Region> {
+public class PersonCard {
 
-    private static final String FXML = "PersonListCard.fxml";
+    private Person person;
+    private int displayedIndex;
+
+    private final HBox cardPane = new HBox();
+    private final Label name = new Label();
+    private final Label id = new Label();
+    private final Label phone = new Label();
+    private final Label address = new Label();
+    private final Label email = new Label();
+    private final Label weddingDate = new Label();
+    private final Label price = new Label();
+    private final Label budget = new Label();
+    private final FlowPane tags = new FlowPane();
+    private final Label typeChip = new Label();
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved
-     * keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The
-     *      issue on AddressBook level 4</a>
+     * Creates an empty {@code PersonCard}.
      */
+    public PersonCard() {
+        id.getStyleClass().add("cell_big_label");
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        name.getStyleClass().add("cell_big_label");
+        typeChip.getStyleClass().add("type-chip");
+        typeChip.setMinWidth(Region.USE_PREF_SIZE);
+        HBox header = new HBox(8.0, id, name, typeChip);
+        header.setAlignment(Pos.CENTER_LEFT);
+        VBox.setMargin(header, new Insets(0, 0, 3.0, 0));
+
+        tags.setId("tags");
+        tags.setMaxWidth(Double.MAX_VALUE);
+        VBox.setMargin(tags, new Insets(0, 0, 6.0, 0));
+
+        for (Label label : List.of(phone, email, address, weddingDate, price, budget)) {
+            label.getStyleClass().add("cell_small_label");
+        }
 
-    public final Person person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private Label weddingDate;
-    @FXML
-    private Label type;
-    @FXML
-    private Label price;
-    @FXML
-    private Label budget;
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private Label typeChip;
+        VBox details = new VBox(header, tags, phone, email, address, weddingDate, price, budget);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(105);
+        details.setPadding(new Insets(5, 5, 5, 15));
+
+        GridPane grid = new GridPane();
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane.setId("cardPane");
+        cardPane.getChildren().add(grid);
+    }
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to
+     * Creates a {@code PersonCard} with the given {@code Person} and index to
      * display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card, replacing whatever it showed before.
+     * Does nothing if the card already shows that very person at that index.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+        PersonViewModel viewModel = PersonViewModel.of(person);
         id.setText(displayedIndex + ". ");
-        name.setText(DisplayFormat.nameAndPartner(person));
+        name.setText(viewModel.getDisplayName(person));
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        if (person.getType() == PersonType.VENDOR) {
-            weddingDate.setVisible(false);
-            weddingDate.setManaged(false);
-        } else {
-            String wdText = person.getWeddingDate().isPresent()
-                    ? person.getWeddingDate().get().toString()
-                    : "-";
-            weddingDate.setText(wdText);
-            weddingDate.setVisible(true);
-            weddingDate.setManaged(true);
-        }
+
+        // Display the wedding date only for clients
+        setShown(weddingDate, person.getType() != PersonType.VENDOR);
+        weddingDate.setText(viewModel.getWeddingDateText(person));
 
         // Display price only for vendors with price
-        if (person.getPrice().isPresent()) {
-            price.setText("Price: " + person.getPrice().get().toString());
-            price.setVisible(true);
-            price.setManaged(true);
-        } else {
-            price.setVisible(false);
-            price.setManaged(false);
-        }
+        setShown(price, person.getPrice().isPresent());
+        price.setText(person.getPrice().map(value -> "Price: " + value).orElse(""));
 
         // Display budget only for clients with budget
-        if (person.getBudget().isPresent()) {
-            budget.setText("Budget: " + person.getBudget().get().toString());
-            budget.setVisible(true);
-            budget.setManaged(true);
-        } else {
-            budget.setVisible(false);
-            budget.setManaged(false);
-        }
+        setShown(budget, person.getBudget().isPresent());
+        budget.setText(person.getBudget().map(value -> "Budget: " + value).orElse(""));
 
         // Display categories only for vendors
+        setShown(tags, person.getType() == PersonType.VENDOR);
         if (person.getType() == PersonType.VENDOR) {
-            person.getCategories().stream()
-                    .sorted(Comparator.comparing(category -> category.categoryName))
-                    .forEach(category -> tags.getChildren().add(new Label(category.categoryName)));
-            tags.setVisible(true);
-            tags.setManaged(true);
+            tags.getChildren().setAll(viewModel.getSortedCategoryNames(person).stream()
+                    .map(Label::new)
+                    .collect(Collectors.toList()));
         } else {
-            tags.setVisible(false);
-            tags.setManaged(false);
+            tags.getChildren().clear();
         }
 
         PersonType type = person.getType();
-        typeChip.setText(person.getType().display());
-
-        typeChip.getStyleClass().removeAll("type-chip", "type-client", "type-vendor");
-        typeChip.getStyleClass().add("type-chip");
+        typeChip.setText(type.display());
+        typeChip.getStyleClass().removeAll("type-client", "type-vendor");
         if (type == PersonType.CLIENT) {
             typeChip.getStyleClass().add("type-client");
         } else if (type == PersonType.VENDOR) {
             typeChip.getStyleClass().add("type-vendor");
         }
     }
+
+    /**
+     * Returns the person shown on this card, or null if it has not been given one.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the root node of this card.
+     */
+    public Region getRoot() {
+        return cardPane;
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
+    }
 }
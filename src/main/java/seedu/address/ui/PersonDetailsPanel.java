@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -44,20 +43,11 @@ public class PersonDetailsPanel extends UiPart<Region> {
      *
      * @param person The initial person to display; may be {@code null} to show the
      *               empty state.
+     * @param linkedPersons The persons linked to {@code person}.
      */
-    public PersonDetailsPanel(Person person) {
+    public PersonDetailsPanel(Person person, List<Person> linkedPersons) {
         super(FXML);
-        setPerson(person);
-    }
-
-    private static String fmtPhone(String raw) {
-        return raw;
-    }
-
-    private static String fmtDate(Person p) {
-        return p.getWeddingDate()
-                .map(d -> d.toString())
-                .orElse("—");
+        setPerson(person, linkedPersons);
     }
 
     /**
@@ -66,8 +56,9 @@ public class PersonDetailsPanel extends UiPart<Region> {
      * Passing {@code null} resets the panel to an empty state.
      *
      * @param person The person to display; may be {@code null}.
+     * @param linkedPersons The persons linked to {@code person}.
      */
-    public void setPerson(Person person) {
+    public void setPerson(Person person, List<Person> linkedPersons) {
         if (person == null) {
             name.setText("No contact selected");
             phone.setText("");
@@ -98,7 +89,8 @@ public class PersonDetailsPanel extends UiPart<Region> {
             return;
         }
 
-        name.setText(DisplayFormat.nameAndPartner(person));
+        PersonViewModel viewModel = PersonViewModel.of(person);
+        name.setText(viewModel.getDisplayName(person));
         phone.setText("Phone: " + person.getPhone().value);
         email.setText("Email: " + person.getEmail().value);
         address.setText("Address: " + person.getAddress().value);
@@ -109,10 +101,7 @@ public class PersonDetailsPanel extends UiPart<Region> {
             weddingDate.setVisible(false);
             weddingDate.setManaged(false);
         } else {
-            String wdText = person.getWeddingDate().isPresent()
-                    ? person.getWeddingDate().get().toString()
-                    : "-";
-            weddingDate.setText("Wedding: " + wdText);
+            weddingDate.setText("Wedding: " + viewModel.getWeddingDateText(person));
             weddingDate.setVisible(true);
             weddingDate.setManaged(true);
         }
@@ -145,52 +134,18 @@ public class PersonDetailsPanel extends UiPart<Region> {
             tagsLine.setVisible(false);
             tagsLine.setManaged(false); // remove its layout space
         } else {
-            String categoriesCsv = person.getCategories().stream()
-                    .sorted(Comparator.comparing(c -> c.categoryName))
-                    .map(c -> c.categoryName)
-                    .collect(Collectors.joining(", "));
-            tagsLine.setText("Category: " + categoriesCsv);
+            tagsLine.setText("Category: " + viewModel.getCategoriesText(person));
             tagsLine.setVisible(true);
             tagsLine.setManaged(true);
         }
 
         // Display linked persons with their type (CLIENT/VENDOR) and categories
-        if (person.getLinkedPersons().isEmpty()) {
+        if (linkedPersons.isEmpty()) {
             linkedPersonsLine.setText("");
             linkedPersonsLine.setVisible(false);
             linkedPersonsLine.setManaged(false);
         } else {
-            String linkedPersonsText = person.getLinkedPersons().stream()
-                    .sorted(Comparator.comparing(p -> p.getName().fullName))
-                    .map(p -> {
-                        // Prefix = wedding date when the selected person is a VENDOR and the linked is
-                        // a CLIENT
-                        String prefix = null;
-                        if (person.getType() == PersonType.VENDOR && p.getType() == PersonType.CLIENT) {
-                            prefix = fmtDate(p);
-                        } else {
-                            // Use the first category if present, preserving original casing; otherwise use type
-                            prefix = p.getCategories().stream()
-                                    .sorted(Comparator.comparing(c -> c.categoryName))
-                                    .findFirst()
-                                    .map(c -> c.categoryName)
-                                    .orElse(p.getType().display());
-                        }
-                        String displayName = (p.getType() == PersonType.CLIENT)
-                                ? DisplayFormat.nameAndPartner(p)
-                                : p.getName().fullName;
-                        String namePhone = displayName + " (" + fmtPhone(p.getPhone().value) + ")";
-                        return prefix != null ? "• " + prefix + ": " + namePhone : "• " + namePhone;
-                    })
-                    .collect(Collectors.joining("\n"));
-
-            // Determine if linked persons are vendors or clients
-            String label = person.getLinkedPersons().stream()
-                    .findFirst()
-                    .map(p -> p.getType().display() + "(s)")
-                    .orElse("Linked");
-
-            linkedPersonsLine.setText(label + ":\n" + linkedPersonsText);
+            linkedPersonsLine.setText(viewModel.getLinkedPersonsSummary(person, linkedPersons));
             linkedPersonsLine.setVisible(true);
             linkedPersonsLine.setManaged(true);
         }
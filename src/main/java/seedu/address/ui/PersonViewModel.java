@@ -0,0 +1,138 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+
+/**
+ * The text shown for a {@code Person} in the UI, each piece computed the first time it is asked for and then kept.
+ * Persons are immutable, so the text of a person never goes stale: an edit replaces the person, and the replacement
+ * gets a view model of its own unless it is equal to the person it replaces, in which case its text is the same.
+ * Persons that are equal share a view model, so the view model does not keep a person of its own: each getter is
+ * given the person it is asked about, which must be equal to the person that the view model was obtained for.
+ * A view model is dropped once the person it was created for is no longer referenced anywhere else.
+ * Must only be used on the JavaFX application thread.
+ */
+final class PersonViewModel {
+
+    // The view models must not refer to the persons, which would keep their own keys alive
+    private static final Map<Person, PersonViewModel> VIEW_MODELS = new WeakHashMap<>();
+
+    private String displayName;
+    private String weddingDateText;
+    private List<String> sortedCategoryNames;
+    private String categoriesText;
+    private String linkedEntry;
+    private String linkedEntryUnderVendor;
+
+    private List<Person> summarizedLinkedPersons;
+    private String linkedPersonsSummary;
+
+    /**
+     * Returns the view model of {@code person}, creating it if there is none yet.
+     */
+    static PersonViewModel of(Person person) {
+        requireNonNull(person);
+        return VIEW_MODELS.computeIfAbsent(person, unused -> new PersonViewModel());
+    }
+
+    /**
+     * Returns the name of the person, followed by the partner's name if there is one.
+     */
+    String getDisplayName(Person person) {
+        if (displayName == null) {
+            displayName = DisplayFormat.nameAndPartner(person);
+        }
+        return displayName;
+    }
+
+    /**
+     * Returns the wedding date of the person, or "-" if it has none.
+     */
+    String getWeddingDateText(Person person) {
+        if (weddingDateText == null) {
+            weddingDateText = person.getWeddingDate().map(Object::toString).orElse("-");
+        }
+        return weddingDateText;
+    }
+
+    /**
+     * Returns the names of the categories of the person in alphabetical order.
+     */
+    List<String> getSortedCategoryNames(Person person) {
+        if (sortedCategoryNames == null) {
+            sortedCategoryNames = person.getCategories().stream()
+                    .map(category -> category.categoryName)
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList());
+        }
+        return sortedCategoryNames;
+    }
+
+    /**
+     * Returns the categories of the person in alphabetical order, separated by commas.
+     */
+    String getCategoriesText(Person person) {
+        if (categoriesText == null) {
+            categoriesText = String.join(", ", getSortedCategoryNames(person));
+        }
+        return categoriesText;
+    }
+
+    /**
+     * Returns the line that shows the person in the list of persons linked to a person of type {@code linkedType}.
+     * Clients listed under a vendor are prefixed with their wedding date; everyone else with their first category,
+     * or their type if they have none.
+     */
+    String getLinkedEntry(Person person, PersonType linkedType) {
+        if (linkedType == PersonType.VENDOR && person.getType() == PersonType.CLIENT) {
+            if (linkedEntryUnderVendor == null) {
+                linkedEntryUnderVendor = formatLinkedEntry(person,
+                        person.getWeddingDate().map(Object::toString).orElse("—"));
+            }
+            return linkedEntryUnderVendor;
+        }
+        if (linkedEntry == null) {
+            List<String> categoryNames = getSortedCategoryNames(person);
+            linkedEntry = formatLinkedEntry(person,
+                    categoryNames.isEmpty() ? person.getType().display() : categoryNames.get(0));
+        }
+        return linkedEntry;
+    }
+
+    private String formatLinkedEntry(Person person, String prefix) {
+        String name = person.getType() == PersonType.CLIENT ? getDisplayName(person) : person.getName().fullName;
+        return "• " + prefix + ": " + name + " (" + person.getPhone().value + ")";
+    }
+
+    /**
+     * Returns the persons in {@code linkedPersons}, which must be the persons linked to {@code person}, as a heading
+     * followed by one line per person in order of name.
+     * The summary of the last list of linked persons is kept, so showing the same person again costs no more than
+     * checking that its links are unchanged.
+     */
+    String getLinkedPersonsSummary(Person person, List<Person> linkedPersons) {
+        requireNonNull(linkedPersons);
+        if (linkedPersons.equals(summarizedLinkedPersons)) {
+            return linkedPersonsSummary;
+        }
+
+        PersonType type = person.getType();
+        String lines = linkedPersons.stream()
+                .sorted(Comparator.comparing(linked -> linked.getName().fullName))
+                .map(linked -> of(linked).getLinkedEntry(linked, type))
+                .collect(Collectors.joining("\n"));
+        String heading = linkedPersons.isEmpty() ? "Linked" : linkedPersons.get(0).getType().display() + "(s)";
+
+        summarizedLinkedPersons = List.copyOf(linkedPersons);
+        linkedPersonsSummary = heading + ":\n" + lines;
+        return linkedPersonsSummary;
+    }
+}
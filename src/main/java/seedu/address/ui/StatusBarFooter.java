@@ -5,18 +5,29 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * While a command takes long, the status bar also shows that it is running, with a button to cancel it.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final int MAX_SHOWN_COMMAND_LENGTH = 40;
+
+    private Runnable onCancel;
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox commandProgress;
+
+    @FXML
+    private Label commandProgressStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +36,34 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code commandText} is running, with a button that calls {@code onCancel}.
+     */
+    void showCommandRunning(String commandText, Runnable onCancel) {
+        this.onCancel = onCancel;
+        String shownText = commandText.length() > MAX_SHOWN_COMMAND_LENGTH
+                ? commandText.substring(0, MAX_SHOWN_COMMAND_LENGTH) + "..."
+                : commandText;
+        commandProgressStatus.setText("Running: " + shownText);
+        commandProgress.setManaged(true);
+        commandProgress.setVisible(true);
+    }
+
+    /**
+     * Hides the command shown by {@link #showCommandRunning(String, Runnable)}.
+     */
+    void hideCommandRunning() {
+        onCancel = null;
+        commandProgress.setVisible(false);
+        commandProgress.setManaged(false);
+    }
+
+    @FXML
+    private void handleCancel() {
+        if (onCancel != null) {
+            commandProgressStatus.setText("Cancelling...");
+            onCancel.run();
+        }
+    }
+
 }
@@ -0,0 +1,57 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchAppTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void isBatchMode() {
+        assertTrue(BatchApp.isBatchMode(new String[] {"--batch=script.txt"}));
+        assertTrue(BatchApp.isBatchMode(new String[] {"--config=config.json", "--batch=-"}));
+        assertFalse(BatchApp.isBatchMode(new String[] {"--config=config.json"}));
+        assertFalse(BatchApp.isBatchMode(new String[0]));
+    }
+
+    @Test
+    public void run_noScript_printsUsage() {
+        assertEquals(BatchApp.EXIT_ERROR, run("--batch"));
+        assertEquals(BatchApp.MESSAGE_USAGE, getErrors());
+    }
+
+    @Test
+    public void run_invalidSaveInterval_printsError() {
+        assertEquals(BatchApp.EXIT_ERROR, run("--batch=-", "--save-every=often"));
+        assertEquals(BatchApp.MESSAGE_INVALID_SAVE_EVERY, getErrors());
+
+        err.reset();
+        assertEquals(BatchApp.EXIT_ERROR, run("--batch=-", "--save-every=-5"));
+        assertEquals(BatchApp.MESSAGE_INVALID_SAVE_EVERY, getErrors());
+    }
+
+    @Test
+    public void run_invalidScriptPath_printsError() {
+        assertEquals(BatchApp.EXIT_ERROR, run("--batch=a\0b"));
+        assertEquals(String.format(BatchApp.MESSAGE_INVALID_PATH, "a\0b"), getErrors());
+    }
+
+    private int run(String... args) {
+        return BatchApp.run(args, new ByteArrayInputStream(new byte[0]), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    private String getErrors() {
+        return err.toString(StandardCharsets.UTF_8).trim();
+    }
+}
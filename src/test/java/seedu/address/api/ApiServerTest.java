@@ -0,0 +1,159 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BUDGET_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PARTNER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TYPE_DESC_CLIENT;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.WEDDING_DATE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), commandExecutor, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        commandExecutor.shutdownNow();
+    }
+
+    @Test
+    public void listPersons_noParameters_allPersonsListed() throws Exception {
+        Map<?, ?> body = getJson(ApiServer.PERSONS_PATH, 200);
+        assertEquals(getTypicalPersons().size(), body.get("count"));
+        assertEquals(getTypicalPersons().size(), ((List<?>) body.get("persons")).size());
+    }
+
+    @Test
+    public void listPersons_phone_matchingPersonListed() throws Exception {
+        Map<?, ?> body = getJson(ApiServer.PERSONS_PATH + "?phone=" + ALICE.getPhone().value, 200);
+        assertEquals(1, body.get("count"));
+        Map<?, ?> person = (Map<?, ?>) ((List<?>) body.get("persons")).get(0);
+        assertEquals(ALICE.getName().fullName, person.get("name"));
+        assertEquals(ALICE.getId().value, person.get("id"));
+    }
+
+    @Test
+    public void listPersons_nameAndPhone_onlyPersonsMatchingBothListed() throws Exception {
+        String nameWord = ALICE.getName().fullName.split(" ")[0];
+        assertEquals(1, getJson(ApiServer.PERSONS_PATH + "?name=" + nameWord, 200).get("count"));
+        assertEquals(0, getJson(ApiServer.PERSONS_PATH + "?name=" + nameWord + "&phone=99999999", 200)
+                .get("count"));
+    }
+
+    @Test
+    public void listPersons_invalidParameters_badRequest() throws Exception {
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, getJson(ApiServer.PERSONS_PATH + "?phone=12", 400).get("error"));
+        assertEquals(String.format(ApiServer.MESSAGE_UNKNOWN_PARAMETER, "colour"),
+                getJson(ApiServer.PERSONS_PATH + "?colour=red", 400).get("error"));
+    }
+
+    @Test
+    public void executeCommand_validCommand_personAddedAndListed() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + WEDDING_DATE_DESC_AMY + TYPE_DESC_CLIENT + PARTNER_DESC_AMY + BUDGET_DESC_AMY;
+        Map<?, ?> body = postJson(ApiServer.COMMANDS_PATH, addCommand, 200);
+        assertTrue(((String) body.get("feedback")).contains(VALID_NAME_AMY));
+
+        Map<?, ?> listed = getJson(ApiServer.PERSONS_PATH + "?phone=" + VALID_PHONE_AMY, 200);
+        assertEquals(1, listed.get("count"));
+        assertEquals(getTypicalPersons().size() + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, postJson(ApiServer.COMMANDS_PATH, "fly", 400).get("error"));
+        assertEquals(ApiServer.MESSAGE_EMPTY_COMMAND, postJson(ApiServer.COMMANDS_PATH, "  ", 400).get("error"));
+    }
+
+    @Test
+    public void handle_wrongMethodOrPath_rejected() throws Exception {
+        assertEquals(String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, ApiServer.COMMANDS_PATH, "POST"),
+                getJson(ApiServer.COMMANDS_PATH, 405).get("error"));
+        assertEquals(String.format(ApiServer.MESSAGE_NOT_FOUND, "/api/weddings"),
+                getJson("/api/weddings", 404).get("error"));
+    }
+
+    @Test
+    public void handle_requestFromWebPage_forbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("clear"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(getTypicalPersons().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    private Map<?, ?> getJson(String pathAndQuery, int expectedStatus) throws Exception {
+        return send(HttpRequest.newBuilder(uri(pathAndQuery)).GET().build(), expectedStatus);
+    }
+
+    private Map<?, ?> postJson(String path, String body, int expectedStatus) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                expectedStatus);
+    }
+
+    private Map<?, ?> send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode());
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncHandlerTest {
+
+    @Test
+    public void flush_recordsWrittenInOrder() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, recorder);
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(10, recorder.records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, recorder.records.get(i).getMessage());
+        }
+        assertTrue(recorder.isFlushed);
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, recorder);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "hidden"));
+        handler.publish(new LogRecord(Level.INFO, "shown"));
+        handler.close();
+
+        assertEquals(List.of("shown"), messagesOf(recorder));
+    }
+
+    @Test
+    public void publish_queueFull_dropsRecordsAndReportsThem() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canWrite = new CountDownLatch(1);
+        RecordingHandler recorder = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncHandler handler = new AsyncHandler(2, recorder);
+
+        // the writer takes the first record and waits, so the queue holds two more and drops the rest
+        handler.publish(new LogRecord(Level.INFO, "0"));
+        isWriting.await();
+        for (int i = 1; i <= 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+        }
+        canWrite.countDown();
+        handler.close();
+
+        assertEquals(List.of("0", "3 log records were dropped because too many were logged at once.", "1", "2"),
+                messagesOf(recorder));
+    }
+
+    @Test
+    public void close_laterRecordsIgnored() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncHandler handler = new AsyncHandler(16, recorder);
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "too late"));
+        handler.flush();
+
+        assertTrue(recorder.records.isEmpty());
+        assertTrue(recorder.isClosed);
+    }
+
+    private static List<String> messagesOf(RecordingHandler recorder) {
+        return recorder.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", maxSaveStalenessMillis=" + config.getMaxSaveStalenessMillis()
+                + ", prettyPrintDataFile=" + config.isPrettyPrintDataFile()
+                + ", apiPort=" + config.getApiPort()
+                + ", apiReadThreadCount=" + config.getApiReadThreadCount() + "}";
         assertEquals(expected, config.toString());
     }
 
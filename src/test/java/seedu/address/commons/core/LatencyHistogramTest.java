@@ -0,0 +1,77 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucketIndex_everyBucketCoversValuesUpToItsUpperBound() {
+        long lowerBound = 0;
+        for (int i = 0; LatencyHistogram.getBucketUpperBound(i) != Long.MAX_VALUE; i++) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(i);
+            assertEquals(i, LatencyHistogram.getBucketIndex(lowerBound));
+            assertEquals(i, LatencyHistogram.getBucketIndex(upperBound));
+            // buckets are never wider than a sixteenth of the values in them
+            assertTrue(upperBound - lowerBound <= Math.max(1, lowerBound / 16));
+            lowerBound = upperBound + 1;
+        }
+        assertEquals(LatencyHistogram.getBucketIndex(lowerBound), LatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getNanosAtPercentile_noDurations_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getNanosAtPercentile_uniformDurations_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertWithinRelativeError(500_000, histogram.getNanosAtPercentile(50));
+        assertWithinRelativeError(950_000, histogram.getNanosAtPercentile(95));
+        assertWithinRelativeError(990_000, histogram.getNanosAtPercentile(99));
+        assertEquals(1_000_000, histogram.getNanosAtPercentile(100));
+        assertWithinRelativeError(1000, histogram.getNanosAtPercentile(0));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getNanosAtPercentile(100));
+    }
+
+    @Test
+    public void reset_forgetsDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(12345);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getNanosAtPercentile(99));
+    }
+
+    @Test
+    public void getNanosAtPercentile_outOfRange_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getNanosAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getNanosAtPercentile(100.5));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected about " + expected + " but was " + actual);
+    }
+}
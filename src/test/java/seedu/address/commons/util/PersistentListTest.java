@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, "a"));
+    }
+
+    @Test
+    public void copyOf_elements_sameOrder() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(57, list.indexOf(57));
+        assertEquals(-1, list.indexOf(100));
+    }
+
+    @Test
+    public void changes_olderVersionsUnchanged() {
+        PersistentList<String> first = PersistentList.<String>empty().add("a").add("b");
+        PersistentList<String> second = first.add(1, "c");
+        PersistentList<String> third = second.set(0, "d").remove(2);
+
+        assertEquals(List.of("a", "b"), first.asList());
+        assertEquals(List.of("a", "c", "b"), second.asList());
+        assertEquals(List.of("d", "c"), third.asList());
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameResultsAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                expected.add(i);
+                list = list.add(i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected, list.asList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(PersistentList.copyOf(expected), list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    @Test
+    public void empty() {
+        PersistentMap<String, String> map = PersistentMap.empty();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        assertTrue(map.remove("a").isEmpty());
+        assertTrue(PersistentMap.copyOf(Map.of()).isEmpty());
+        assertThrows(NullPointerException.class, () -> map.put("a", null));
+    }
+
+    @Test
+    public void changes_olderVersionsUnchanged() {
+        PersistentMap<String, Integer> first = PersistentMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        PersistentMap<String, Integer> second = first.put("a", 3).remove("b");
+
+        assertEquals(2, first.size());
+        assertEquals(1, (int) first.get("a"));
+        assertEquals(2, (int) first.get("b"));
+        assertEquals(1, second.size());
+        assertEquals(3, (int) second.get("a"));
+        assertFalse(second.containsKey("b"));
+    }
+
+    @Test
+    public void changes_keysWithSameHashCode_keptApart() {
+        // "Aa" and "BB" have the same hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("Aa", 1).put("BB", 2);
+        assertEquals(2, map.size());
+        assertEquals(1, (int) map.get("Aa"));
+        assertEquals(2, (int) map.get("BB"));
+
+        map = map.remove("Aa");
+        assertEquals(1, map.size());
+        assertNull(map.get("Aa"));
+        assertEquals(2, (int) map.get("BB"));
+
+        PersistentMap<String, Integer> copy = PersistentMap.copyOf(Map.of("Aa", 1, "BB", 2, "C", 3));
+        assertEquals(3, copy.size());
+        assertEquals(1, (int) copy.get("Aa"));
+        assertEquals(2, (int) copy.get("BB"));
+    }
+
+    @Test
+    public void changes_manyRandomChanges_sameResultsAsHashMap() {
+        Random random = new Random(42);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            // Keys that differ only in their higher bits share most of their path through the trie
+            int key = random.nextInt(3000) << random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        PersistentMap<Integer, Integer> copy = PersistentMap.copyOf(expected);
+        assertEquals(expected.size(), copy.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+            assertEquals(entry.getValue(), copy.get(entry.getKey()));
+        }
+        for (int key : expected.keySet()) {
+            map = map.remove(key);
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void forEachChangedKey_changedVersion_onlyChangedKeys() {
+        Random random = new Random(42);
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            entries.put(random.nextInt(100000) << random.nextInt(10), i);
+        }
+        PersistentMap<Integer, Integer> original = PersistentMap.copyOf(entries);
+
+        Set<Integer> expected = new HashSet<>();
+        PersistentMap<Integer, Integer> changed = original;
+        for (int i = 0; i < 50; i++) {
+            int key = random.nextInt(100000);
+            if (random.nextBoolean() && changed.containsKey(key)) {
+                changed = changed.remove(key);
+            } else {
+                changed = changed.put(key, -i - 1);
+            }
+            expected.add(key);
+        }
+        // A key that is put back with the value it already had is not changed
+        int unchangedKey = entries.keySet().iterator().next();
+        expected.remove(unchangedKey);
+        changed = changed.remove(unchangedKey).put(unchangedKey, original.get(unchangedKey));
+
+        Set<Integer> actual = new HashSet<>();
+        original.forEachChangedKey(changed, actual::add);
+        assertEquals(expected, actual);
+
+        Set<Integer> reversed = new HashSet<>();
+        changed.forEachChangedKey(original, reversed::add);
+        assertEquals(expected, reversed);
+
+        Set<Integer> none = new HashSet<>();
+        changed.forEachChangedKey(changed, none::add);
+        assertTrue(none.isEmpty());
+
+        Set<Integer> all = new HashSet<>();
+        PersistentMap.<Integer, Integer>empty().forEachChangedKey(original, all::add);
+        assertEquals(entries.keySet(), all);
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_COMMAND_CANCELLED;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandRunnerTest {
+
+    private static final String ADD_FLORIST = "add n/Blooming Flowers p/81234567 e/hello@blooming.com a/1 Orchard Road"
+            + " type/vendor price/1500 c/florist";
+    private static final String SLOW_COMMAND = "slow";
+    private static final String BROKEN_COMMAND = "broken";
+    private static final IllegalStateException BROKEN_COMMAND_ERROR = new IllegalStateException("bug");
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final BlockingQueue<String> outcomes = new LinkedBlockingQueue<>();
+    private final CountDownLatch slowCommandStarted = new CountDownLatch(1);
+    private final AtomicBoolean isInterruptIgnored = new AtomicBoolean();
+    private CommandRunner commandRunner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // Executes the slow command until it is interrupted, like a long command that can be cancelled, and fails the
+        // broken command with an unexpected exception
+        Logic logic = new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(BROKEN_COMMAND)) {
+                    throw BROKEN_COMMAND_ERROR;
+                } else if (!commandText.equals(SLOW_COMMAND)) {
+                    return super.execute(commandText);
+                }
+                slowCommandStarted.countDown();
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.onSpinWait();
+                }
+                if (isInterruptIgnored.get()) {
+                    return new CommandResult("finished anyway");
+                }
+                throw new CommandException(MESSAGE_COMMAND_CANCELLED);
+            }
+        };
+        commandRunner = new CommandRunner(logic, Runnable::run);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        commandRunner.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+    }
+
+    @Test
+    public void run_validCommand_succeeds() throws Exception {
+        commandRunner.run(ADD_FLORIST, new RecordingListener());
+        assertTrue(takeOutcome().startsWith("succeeded: New person added"));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_invalidCommand_fails() throws Exception {
+        commandRunner.run("uicfhmowqewca", new RecordingListener());
+        assertEquals("failed: " + MESSAGE_UNKNOWN_COMMAND, takeOutcome());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_failsWithUnexpectedError() throws Exception {
+        commandRunner.run(BROKEN_COMMAND, new RecordingListener());
+        assertEquals("failed: " + String.format(CommandRunner.MESSAGE_UNEXPECTED_ERROR, BROKEN_COMMAND_ERROR),
+                takeOutcome());
+        assertNextTaskNotInterrupted();
+    }
+
+    @Test
+    public void cancel_waitingCommand_skippedAndReportedAtOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        commandRunner.execute(() -> awaitQuietly(release));
+
+        CommandRunner.Execution execution = commandRunner.run(ADD_FLORIST, new RecordingListener());
+        execution.cancel();
+        assertEquals("cancelled", takeOutcome());
+
+        release.countDown();
+        commandRunner.run(ListCommand.COMMAND_WORD, new RecordingListener());
+        assertTrue(takeOutcome().startsWith("succeeded"));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void cancel_runningCommand_interruptedAndReportedCancelled() throws Exception {
+        CommandRunner.Execution execution = commandRunner.run(SLOW_COMMAND, new RecordingListener());
+        assertTrue(slowCommandStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        execution.cancel();
+        assertEquals("cancelled", takeOutcome());
+        assertNextTaskNotInterrupted();
+    }
+
+    @Test
+    public void cancel_commandFinishesAnyway_reportedAsFinished() throws Exception {
+        isInterruptIgnored.set(true);
+        CommandRunner.Execution execution = commandRunner.run(SLOW_COMMAND, new RecordingListener());
+        assertTrue(slowCommandStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        execution.cancel();
+        assertEquals("succeeded: finished anyway", takeOutcome());
+        assertNextTaskNotInterrupted();
+    }
+
+    @Test
+    public void cancel_finishedCommand_doesNothing() throws Exception {
+        CommandRunner.Execution execution = commandRunner.run(ListCommand.COMMAND_WORD, new RecordingListener());
+        takeOutcome();
+
+        execution.cancel();
+        assertNextTaskNotInterrupted();
+        assertTrue(outcomes.isEmpty());
+    }
+
+    private String takeOutcome() throws InterruptedException {
+        String outcome = outcomes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(outcome != null, "The command did not finish in time");
+        return outcome;
+    }
+
+    private void assertNextTaskNotInterrupted() throws InterruptedException {
+        BlockingQueue<Boolean> isInterrupted = new LinkedBlockingQueue<>();
+        commandRunner.execute(() -> isInterrupted.add(Thread.currentThread().isInterrupted()));
+        assertFalse(isInterrupted.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A listener that records how each command ended.
+     */
+    private class RecordingListener implements CommandRunner.Listener {
+        @Override
+        public void commandSucceeded(CommandResult commandResult) {
+            outcomes.add("succeeded: " + commandResult.getFeedbackToUser());
+        }
+
+        @Override
+        public void commandFailed(String message) {
+            outcomes.add("failed: " + message);
+        }
+
+        @Override
+        public void commandCancelled() {
+            outcomes.add("cancelled");
+        }
+    }
+}
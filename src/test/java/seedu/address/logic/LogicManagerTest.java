@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -19,16 +20,19 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.CommandStats.Phase;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -48,6 +52,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -55,7 +60,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -91,14 +96,33 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_commands_timedByCommandWord() throws Exception {
+        // Waits for each save to be written, so that the two saves are not combined into one write
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flush();
+        logic.execute("  " + ListCommand.COMMAND_WORD + "  ");
+        storage.flush();
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStats commandStats = logic.getCommandStats();
+        assertEquals(Set.of("delete", "list"), commandStats.getCommandWords());
+        for (Phase phase : Phase.values()) {
+            assertEquals(2, commandStats.getHistogram("list", phase).get().getCount());
+        }
+        assertEquals(1, commandStats.getHistogram("delete", Phase.EXECUTE).get().getCount());
+        assertTrue(commandStats.getHistogram("delete", Phase.SAVE).isEmpty());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportedWithNextCommand() throws Exception {
+        assertFailureFromStorageReported(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportedWithNextCommand() throws Exception {
+        assertFailureFromStorageReported(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -107,6 +131,17 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getAddressBookSnapshot_laterCommands_snapshotUnchanged() throws Exception {
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        assertTrue(snapshot == logic.getAddressBookSnapshot());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + WEDDING_DATE_DESC_AMY + TYPE_DESC_CLIENT + PARTNER_DESC_AMY + BUDGET_DESC_AMY);
+        assertEquals(0, snapshot.getPersonList().size());
+        assertEquals(model.getAddressBook(), new AddressBook(logic.getAddressBookSnapshot()));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -162,11 +197,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command that triggered the failed save still succeeds, and the failure is reported with the next command.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be added to the feedback of the next command
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertFailureFromStorageReported(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -180,7 +216,8 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        // Delays background saves so that the failure can only happen once the test flushes them
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, 60_000);
 
         logic = new LogicManager(model, storage);
 
@@ -192,6 +229,12 @@ public class LogicManagerTest {
                 .withPartner(VALID_PARTNER_AMY).withBudget(VALID_BUDGET_AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+        assertThrows(e.getClass(), e.getMessage(), storage::flush);
+
+        CommandResult result = logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().endsWith("\n" + expectedMessage));
+        assertEquals(expectedModel, model);
     }
 }
@@ -0,0 +1,148 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_FLORIST = "add n/Blooming Flowers p/81234567 e/hello@blooming.com a/1 Orchard Road"
+            + " type/vendor price/1500 c/florist";
+    private static final String ADD_CATERER = "add n/Cathy Caterer p/81234568 e/cathy@example.com a/2 Orchard Road"
+            + " type/vendor price/2000 c/caterer";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final List<String> errors = new ArrayList<>();
+    private JsonAddressBookStorage addressBookStorage;
+    private StorageManager storage;
+    private int saveCount;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void run_mixedScript_reportsFailedLinesAndSavesOnce() throws Exception {
+        String script = String.join("\n", "# onboarding", ADD_FLORIST, "", ADD_FLORIST, "bogus", "  " + ADD_CATERER);
+
+        ScriptResult result = run(script, 0);
+
+        assertEquals(4, result.getCommandCount());
+        assertEquals(2, result.getFailureCount());
+        assertEquals(List.of(
+                String.format(ScriptRunner.MESSAGE_LINE_FAILED, 4, AddCommand.MESSAGE_DUPLICATE_PERSON),
+                String.format(ScriptRunner.MESSAGE_LINE_FAILED, 5, MESSAGE_UNKNOWN_COMMAND)), errors);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        run(String.join("\n", ADD_FLORIST, "list", ADD_CATERER), 2);
+        assertEquals(2, saveCount);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        ScriptResult result = run(String.join("\n", ADD_FLORIST, "exit", ADD_CATERER), 0);
+        assertEquals(2, result.getCommandCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_emptyScript_savesUnchangedData() throws Exception {
+        ScriptResult result = run("", 0);
+        assertEquals(0, result.getCommandCount());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_reportsLineAndCarriesOn() throws Exception {
+        IllegalStateException error = new IllegalStateException("bug");
+        Model brokenModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                if (person.getName().fullName.equals("Blooming Flowers")) {
+                    throw error;
+                }
+                super.addPerson(person);
+            }
+        };
+
+        ScriptResult result = new ScriptRunner(brokenModel, storage, 0)
+                .run(new BufferedReader(new StringReader(String.join("\n", ADD_FLORIST, ADD_CATERER))), errors::add);
+
+        assertEquals(1, result.getFailureCount());
+        assertEquals(List.of(String.format(ScriptRunner.MESSAGE_LINE_FAILED, 1,
+                String.format(CommandRunner.MESSAGE_UNEXPECTED_ERROR, error))), errors);
+        assertEquals(1, saveCount);
+        assertEquals(brokenModel.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_scriptCannotBeRead_savesCommandsRunSoFar() {
+        // Fails once the first line has been read
+        BufferedReader script = new BufferedReader(new StringReader(ADD_FLORIST + "\n" + ADD_CATERER), 1) {
+            private boolean hasReadLine;
+
+            @Override
+            public String readLine() throws IOException {
+                if (hasReadLine) {
+                    throw new IOException("disk error");
+                }
+                hasReadLine = true;
+                return super.readLine();
+            }
+        };
+
+        assertThrows(IOException.class, () -> new ScriptRunner(model, storage, 0).run(script, errors::add));
+        assertEquals(1, saveCount);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(model, storage, -1));
+    }
+
+    private ScriptResult run(String script, int saveInterval) throws IOException {
+        return new ScriptRunner(model, storage, saveInterval)
+                .run(new BufferedReader(new StringReader(script)), errors::add);
+    }
+}
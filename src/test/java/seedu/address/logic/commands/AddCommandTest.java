@@ -8,8 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +25,14 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.BookingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,11 +143,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonById(PersonId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> findPersonIdsByNamePrefix(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> findPersonIdsByCategory(String category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsInCategory(String category) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> findPersonIdsByWeddingDate(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> findPersonIdsByPriceOverlapping(long from, long to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<PersonId> findPersonIdsByBudgetOverlapping(long from, long to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +203,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void replacePersons(Map<Person, Person> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLink(Person first, Person second) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLink(Person first, Person second) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeLink(Person first, Person second) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getLinkedPersons(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getClientsBookedWith(Person vendor, LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<BookingConflict> getBookingConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +247,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
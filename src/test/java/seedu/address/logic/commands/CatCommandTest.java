@@ -115,6 +115,21 @@ public class CatCommandTest {
         assertEquals(Arrays.asList(florist), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personEditedOutOfCategory_hidden() {
+        Person florist = new PersonBuilder().withName("John Flowers").withPhone("91234567")
+                .withType(seedu.address.model.person.PersonType.VENDOR)
+                .withTags("florist").build();
+        model.addPerson(florist);
+
+        new CatCommand(new CategoryMatchesPredicate("florist")).execute(model);
+        assertEquals(Arrays.asList(florist), model.getFilteredPersonList());
+
+        model.setPerson(florist, new PersonBuilder(florist).withTags("caterer").build());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+        assertEquals(1, model.countPersonsInCategory("Caterer"));
+    }
+
     @Test
     public void toStringMethod() {
         CategoryMatchesPredicate predicate = new CategoryMatchesPredicate("florist");
@@ -52,6 +52,12 @@ public class CommandResultTest {
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
 
+    @Test
+    public void withAdditionalFeedback() {
+        CommandResult commandResult = new CommandResult("feedback", true, false);
+        assertEquals(new CommandResult("feedback\nmore", true, false), commandResult.withAdditionalFeedback("more"));
+    }
+
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
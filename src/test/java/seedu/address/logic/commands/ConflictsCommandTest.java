@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    private static final Person CLIENT = new PersonBuilder().withName("Clara Client").withPhone("91110001")
+            .withType(PersonType.CLIENT).withWeddingDate("01-06-2026").build();
+    private static final Person RIVAL_CLIENT = new PersonBuilder().withName("Rita Rival").withPhone("91110002")
+            .withType(PersonType.CLIENT).withWeddingDate("02-06-2026").build();
+    private static final Person VENDOR = new PersonBuilder().withName("Cathy Caterer").withPhone("81110001")
+            .withType(PersonType.VENDOR).withPrice("2000").build();
+    private static final Person OTHER_VENDOR = new PersonBuilder().withName("Fit Photos").withPhone("81110002")
+            .withType(PersonType.VENDOR).withPrice("1500").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : List.of(CLIENT, RIVAL_CLIENT, VENDOR, OTHER_VENDOR)) {
+            addressBook.addPerson(person);
+        }
+        addressBook.addLink(CLIENT, VENDOR);
+        addressBook.addLink(RIVAL_CLIENT, VENDOR);
+        addressBook.addLink(RIVAL_CLIENT, OTHER_VENDOR);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_noConflicts_noConflictsMessage() {
+        assertEquals(ConflictsCommand.MESSAGE_NO_CONFLICTS, new ConflictsCommand().execute(model).getFeedbackToUser());
+        assertEquals(4, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_doubleBookedVendor_listsConflict() {
+        // linking is refused on a clash, but moving a wedding date can still create one
+        Person editedRival = new PersonBuilder(RIVAL_CLIENT).withWeddingDate("01-06-2026").build();
+        model.setPerson(RIVAL_CLIENT, editedRival);
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS, 1)
+                + "\n  " + String.format(ConflictsCommand.MESSAGE_CONFLICT, CLIENT.getWeddingDate().get(),
+                        VENDOR.getName(), CLIENT.getName() + ", " + RIVAL_CLIENT.getName())
+                + "\n" + Messages.getPersonsListedMessage(3)
+                + "\nUse the 'list' command to go back and view all contacts.";
+        assertEquals(expectedMessage, new ConflictsCommand().execute(model).getFeedbackToUser());
+        assertEquals(List.of(CLIENT, editedRival, VENDOR), model.getFilteredPersonList());
+    }
+}
@@ -10,9 +10,6 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.HashSet;
-import java.util.Set;
-
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -141,26 +138,11 @@ public class DeleteCommandTest {
         model.addPerson(client);
         model.addPerson(vendor);
 
-        // Now create linked versions
-        Set<Person> clientLinks = new HashSet<>();
-        clientLinks.add(vendor);
-
-        Set<Person> vendorLinks = new HashSet<>();
-        vendorLinks.add(client);
-
-        // Create updated persons with links
-        Person linkedClient = new PersonBuilder(client).withLinkedPersons(clientLinks).build();
-        Person linkedVendor = new PersonBuilder(vendor).withLinkedPersons(vendorLinks).build();
-
-        // Update both in the model
-        model.setPerson(client, linkedClient);
-        model.setPerson(vendor, linkedVendor);
+        // Link them
+        model.addLink(client, vendor);
 
         // Verify the link exists before deletion
-        Person clientInModel = model.getFilteredPersonList().stream()
-                .filter(p -> p.getPhone().equals(linkedClient.getPhone()))
-                .findFirst().get();
-        assertTrue(clientInModel.isLinkedTo(linkedVendor));
+        assertTrue(model.hasLink(client, vendor));
 
         // Delete the vendor
         DeleteCommand deleteCommand = new DeleteCommand(Index.fromOneBased(2));
@@ -171,11 +153,8 @@ public class DeleteCommandTest {
         }
 
         // Verify the client no longer has the vendor in linked persons
-        Person updatedClient = model.getFilteredPersonList().stream()
-                .filter(p -> p.getPhone().equals(linkedClient.getPhone()))
-                .findFirst().get();
-        assertFalse(updatedClient.isLinkedTo(linkedVendor));
-        assertEquals(0, updatedClient.getLinkedPersons().size());
+        assertFalse(model.hasLink(client, vendor));
+        assertEquals(0, model.getLinkedPersons(client).size());
     }
 
     /**
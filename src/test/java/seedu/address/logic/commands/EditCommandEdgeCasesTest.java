@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -14,10 +15,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
 
 /**
@@ -56,9 +60,37 @@ public class EditCommandEdgeCasesTest {
         @Override public ReadOnlyAddressBook getAddressBook() {
             return addressBook;
         }
+        @Override public AddressBookSnapshot getAddressBookSnapshot() {
+            return addressBook.getSnapshot();
+        }
         @Override public boolean hasPerson(Person person) {
             return addressBook.hasPerson(person);
         }
+        @Override public java.util.Optional<Person> findPersonById(PersonId id) {
+            return addressBook.findPersonById(id);
+        }
+        @Override public java.util.Optional<Person> findPersonByPhone(Phone phone) {
+            return addressBook.findPersonByPhone(phone);
+        }
+        @Override public java.util.Set<PersonId> findPersonIdsByNamePrefix(String query) {
+            return addressBook.findPersonIdsByNamePrefix(query);
+        }
+        @Override public java.util.Set<PersonId> findPersonIdsByCategory(String category) {
+            return addressBook.findPersonIdsByCategory(category);
+        }
+        @Override public int countPersonsInCategory(String category) {
+            return addressBook.countPersonsInCategory(category);
+        }
+        @Override public java.util.Set<PersonId> findPersonIdsByWeddingDate(java.time.LocalDate from,
+                java.time.LocalDate to) {
+            return addressBook.findPersonIdsByWeddingDate(from, to);
+        }
+        @Override public java.util.Set<PersonId> findPersonIdsByPriceOverlapping(long from, long to) {
+            return addressBook.findPersonIdsByPriceOverlapping(from, to);
+        }
+        @Override public java.util.Set<PersonId> findPersonIdsByBudgetOverlapping(long from, long to) {
+            return addressBook.findPersonIdsByBudgetOverlapping(from, to);
+        }
         @Override public void deletePerson(Person target) {
             addressBook.removePerson(target);
         }
@@ -69,11 +101,34 @@ public class EditCommandEdgeCasesTest {
         @Override public void setPerson(Person target, Person editedPerson) {
             addressBook.setPerson(target, editedPerson);
         }
+        @Override public void replacePersons(java.util.Map<Person, Person> replacements) {
+            addressBook.replacePersons(replacements);
+        }
+        @Override public boolean hasLink(Person first, Person second) {
+            return addressBook.hasLink(first, second);
+        }
+        @Override public void addLink(Person first, Person second) {
+            addressBook.addLink(first, second);
+        }
+        @Override public void removeLink(Person first, Person second) {
+            addressBook.removeLink(first, second);
+        }
+        @Override public java.util.List<Person> getLinkedPersons(Person person) {
+            return addressBook.getLinkedPersons(person);
+        }
+        @Override public java.util.List<Person> getClientsBookedWith(Person vendor, java.time.LocalDate date) {
+            return addressBook.getClientsBookedWith(vendor, date);
+        }
+        @Override public java.util.List<seedu.address.model.person.BookingConflict> getBookingConflicts() {
+            return addressBook.getBookingConflicts();
+        }
         @Override public ObservableList<Person> getFilteredPersonList() {
             return FXCollections.unmodifiableObservableList(list);
         }
         @Override public void updateFilteredPersonList(Predicate<Person> predicate) {
         }
+        @Override public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        }
     }
 
     @Test
@@ -18,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameStartsWithPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
 import seedu.address.testutil.PersonBuilder;
 
@@ -95,6 +96,28 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(amira), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_afterNameEdited_findsEditedName() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Zimmer").build();
+        model.setPerson(CARL, editedCarl);
+        expectedModel.setPerson(CARL, editedCarl);
+
+        String expectedMessage = Messages.getPersonsListedMessage(1)
+                + "\nUse the 'list' command to go back and view all contacts.";
+        NameStartsWithPredicate predicate = preparePredicate("ku");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchEditedAfterFind_hidden() {
+        new FindCommand(preparePredicate("ku")).execute(model);
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Zimmer").build());
+        assertEquals(Arrays.asList(FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameStartsWithPredicate predicate = new NameStartsWithPredicate("al");
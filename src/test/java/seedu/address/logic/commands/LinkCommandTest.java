@@ -64,18 +64,7 @@ public class LinkCommandTest {
         String expectedMessage = LinkCommand.MESSAGE_LINK_SUCCESS;
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        Person linkedClient = new PersonBuilder(client).build();
-        Person linkedVendor = new PersonBuilder(vendor).build();
-
-        // Manually link them in expected model
-        Person updatedClient = new Person(client.getName(), client.getPhone(), client.getEmail(),
-                client.getAddress(), client.getWeddingDate().orElse(null), client.getType(), client.getCategories(),
-                java.util.Set.of(vendor), null, client.getPartner());
-        Person updatedVendor = new Person(vendor.getName(), vendor.getPhone(), vendor.getEmail(),
-                vendor.getAddress(), vendor.getType(), vendor.getCategories(),
-                java.util.Set.of(client), vendor.getPrice().orElse(null));
-        expectedModel.setPerson(client, updatedClient);
-        expectedModel.setPerson(vendor, updatedVendor);
+        expectedModel.addLink(client, vendor);
 
         assertCommandSuccess(linkCommand, model, expectedMessage, expectedModel);
     }
@@ -151,6 +140,37 @@ public class LinkCommandTest {
         assertCommandFailure(secondLinkCommand, model, LinkCommand.MESSAGE_LINK_ALREADY_EXISTS);
     }
 
+    @Test
+    public void execute_vendorBookedOnSameDate_throwsCommandException() {
+        Person otherClient = new PersonBuilder().withName("Carol Client")
+                .withPhone("33333333")
+                .withWeddingDate("01-01-2024")
+                .withType(PersonType.CLIENT)
+                .build();
+        model.addPerson(otherClient);
+        model.addLink(client, vendor);
+
+        LinkCommand linkCommand = new LinkCommand(INDEX_THIRD_PERSON, INDEX_SECOND_PERSON);
+        String expectedMessage = String.format(LinkCommand.MESSAGE_DOUBLE_BOOKING, vendor.getName(),
+                client.getName(), client.getWeddingDate().get());
+        assertCommandFailure(linkCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_vendorBookedOnOtherDate_success() throws Exception {
+        Person otherClient = new PersonBuilder().withName("Carol Client")
+                .withPhone("33333333")
+                .withWeddingDate("02-01-2024")
+                .withType(PersonType.CLIENT)
+                .build();
+        model.addPerson(otherClient);
+        model.addLink(client, vendor);
+
+        CommandResult result = new LinkCommand(INDEX_THIRD_PERSON, INDEX_SECOND_PERSON).execute(model);
+        assertEquals(LinkCommand.MESSAGE_LINK_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasLink(otherClient, vendor));
+    }
+
     @Test
     public void equals() {
         LinkCommand linkFirstSecondCommand = new LinkCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MatchCommand} and {@code MatchAllCommand}.
+ */
+public class MatchCommandTest {
+
+    private static final Person CLIENT = new PersonBuilder().withName("Clara Client").withPhone("91110001")
+            .withType(PersonType.CLIENT).withWeddingDate("01-06-2026").withBudget("1000-3000").build();
+    private static final Person RIVAL_CLIENT = new PersonBuilder().withName("Rita Rival").withPhone("91110002")
+            .withType(PersonType.CLIENT).withWeddingDate("01-06-2026").withBudget("1000-3000").build();
+    private static final Person PAST_CLIENT = new PersonBuilder().withName("Paul Past").withPhone("91110003")
+            .withType(PersonType.CLIENT).withWeddingDate("01-01-2020").withBudget("1000-3000").build();
+    private static final Person PHOTOGRAPHER = new PersonBuilder().withName("Fit Photos").withPhone("81110001")
+            .withType(PersonType.VENDOR).withPrice("1500-2500").withTags("photographer").build();
+    private static final Person CATERER = new PersonBuilder().withName("Cathy Caterer").withPhone("81110002")
+            .withType(PersonType.VENDOR).withPrice("2000-4000").withTags("caterer").build();
+    private static final Person PRICEY = new PersonBuilder().withName("Pricey Place").withPhone("81110003")
+            .withType(PersonType.VENDOR).withPrice("8000-9000").withTags("venue").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : List.of(CLIENT, RIVAL_CLIENT, PAST_CLIENT, PHOTOGRAPHER, CATERER, PRICEY)) {
+            addressBook.addPerson(person);
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        model.addLink(RIVAL_CLIENT, CATERER);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand firstCommand = new MatchCommand(INDEX_FIRST_PERSON);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new MatchCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(firstCommand.equals(new MatchCommand(INDEX_SECOND_PERSON)));
+
+        MatchAllCommand firstAllCommand = new MatchAllCommand(LocalDate.of(2026, 1, 1));
+        assertTrue(firstAllCommand.equals(new MatchAllCommand(LocalDate.of(2026, 1, 1))));
+        assertFalse(firstAllCommand.equals(new MatchAllCommand(LocalDate.of(2026, 1, 2))));
+        assertFalse(firstAllCommand.equals(firstCommand));
+    }
+
+    @Test
+    public void execute_client_listsMatchingVendors() throws Exception {
+        CommandResult result = new MatchCommand(INDEX_FIRST_PERSON).execute(model);
+
+        String expectedMessage = String.format(MatchCommand.MESSAGE_MATCHES, CLIENT.getName(), CLIENT.getBudget().get())
+                + "\n  photographer: Fit Photos ($1,500-$2,500)"
+                + "\n" + Messages.getPersonsListedMessage(1)
+                + "\nUse the 'list' command to go back and view all contacts.";
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(List.of(PHOTOGRAPHER), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noVendorFits_noMatchesMessage() throws Exception {
+        model.deletePerson(PHOTOGRAPHER);
+        CommandResult result = new MatchCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(String.format(MatchCommand.MESSAGE_NO_MATCHES, CLIENT.getName(), CLIENT.getBudget().get()),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new MatchCommand(outOfBoundIndex), model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_vendor_throwsCommandException() {
+        Index vendorIndex = Index.fromZeroBased(model.getFilteredPersonList().indexOf(PHOTOGRAPHER));
+        assertCommandFailure(new MatchCommand(vendorIndex), model, MatchCommand.MESSAGE_NOT_CLIENT);
+    }
+
+    @Test
+    public void execute_clientWithoutBudget_throwsCommandException() {
+        model.setPerson(CLIENT, new PersonBuilder(CLIENT).withoutBudget().build());
+        assertCommandFailure(new MatchCommand(INDEX_FIRST_PERSON), model, MatchCommand.MESSAGE_NO_BUDGET);
+    }
+
+    @Test
+    public void executeAll_upcomingClients_summarisesEachClient() throws Exception {
+        CommandResult result = new MatchAllCommand(LocalDate.of(2026, 1, 1)).execute(model);
+
+        String expectedMessage = String.format(MatchAllCommand.MESSAGE_SUMMARY, 2)
+                + "\n  " + String.format(MatchAllCommand.MESSAGE_CLIENT_SUMMARY, CLIENT.getName(),
+                        CLIENT.getWeddingDate().get(), 1, 1)
+                + "\n  " + String.format(MatchAllCommand.MESSAGE_CLIENT_SUMMARY, RIVAL_CLIENT.getName(),
+                        RIVAL_CLIENT.getWeddingDate().get(), 2, 2)
+                + "\n" + Messages.getPersonsListedMessage(2)
+                + "\nUse 'match CLIENT_INDEX' to see the vendors for one client.";
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(List.of(CLIENT, RIVAL_CLIENT), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeAll_interrupted_cancelledWithoutChangingModel() {
+        Thread.currentThread().interrupt();
+        try {
+            assertCommandFailure(new MatchAllCommand(LocalDate.of(2026, 1, 1)), model,
+                    Messages.MESSAGE_COMMAND_CANCELLED);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void executeAll_noUpcomingClients_noClientsMessage() throws Exception {
+        CommandResult result = new MatchAllCommand(LocalDate.of(2027, 1, 1)).execute(model);
+        assertEquals(MatchAllCommand.MESSAGE_NO_CLIENTS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void toStringMethod() {
+        MatchCommand matchCommand = new MatchCommand(INDEX_FIRST_PERSON);
+        assertEquals(MatchCommand.class.getCanonicalName() + "{clientIndex=" + INDEX_FIRST_PERSON + "}",
+                matchCommand.toString());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.CommandStats.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+    private final CommandStats commandStats = new CommandStats();
+
+    @Test
+    public void execute_noStats_showsNoStats() {
+        assertCommandSuccess(new StatsCommand(commandStats, false), model, StatsCommand.MESSAGE_NO_STATS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_stats_showsEachRecordedPhaseByCommandWord() {
+        commandStats.record("list", Phase.PARSE, 1_000_000);
+        commandStats.record("add", Phase.PARSE, 2_000_000);
+        commandStats.record("add", Phase.EXECUTE, 3_000_000);
+        commandStats.record("add", Phase.EXECUTE, 3_000_000);
+
+        String expectedMessage = StatsCommand.MESSAGE_STATS
+                + "\n  " + String.format(StatsCommand.MESSAGE_PHASE_STATS, "add", "parse", 1, 2.0, 2.0, 2.0, 2.0)
+                + "\n  " + String.format(StatsCommand.MESSAGE_PHASE_STATS, "add", "execute", 2, 3.0, 3.0, 3.0, 3.0)
+                + "\n  " + String.format(StatsCommand.MESSAGE_PHASE_STATS, "list", "parse", 1, 1.0, 1.0, 1.0, 1.0);
+        assertCommandSuccess(new StatsCommand(commandStats, false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_reset_forgetsStats() {
+        commandStats.record("list", Phase.PARSE, 1_000_000);
+        assertCommandSuccess(new StatsCommand(commandStats, true), model, StatsCommand.MESSAGE_RESET, expectedModel);
+        assertTrue(commandStats.getCommandWords().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand showCommand = new StatsCommand(commandStats, false);
+
+        // same values -> returns true
+        assertTrue(showCommand.equals(new StatsCommand(commandStats, false)));
+
+        // same object -> returns true
+        assertTrue(showCommand.equals(showCommand));
+
+        // null -> returns false
+        assertFalse(showCommand.equals(null));
+
+        // different reset -> returns false
+        assertFalse(showCommand.equals(new StatsCommand(commandStats, true)));
+
+        // different stats -> returns false
+        assertFalse(showCommand.equals(new StatsCommand(new CommandStats(), false)));
+    }
+}
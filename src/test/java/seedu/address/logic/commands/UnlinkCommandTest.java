@@ -33,7 +33,7 @@ public class UnlinkCommandTest {
 
     @BeforeEach
     public void setUp() {
-        // Create test persons with specific types and links
+        // Create test persons with specific types
         client = new PersonBuilder().withName("Alice Client")
                 .withPhone("11111111")
                 .withEmail("alice@example.com")
@@ -50,17 +50,10 @@ public class UnlinkCommandTest {
                 .withPrice("1000-2000")
                 .build();
 
-        // Create linked persons
-        Person linkedClient = new Person(client.getName(), client.getPhone(), client.getEmail(),
-                client.getAddress(), client.getWeddingDate().orElse(null), client.getType(), client.getCategories(),
-                java.util.Set.of(vendor), null, client.getPartner());
-        Person linkedVendor = new Person(vendor.getName(), vendor.getPhone(), vendor.getEmail(),
-                vendor.getAddress(), vendor.getType(), vendor.getCategories(),
-                java.util.Set.of(client), vendor.getPrice().orElse(null));
-
         AddressBook addressBook = new AddressBook();
-        addressBook.addPerson(linkedClient);
-        addressBook.addPerson(linkedVendor);
+        addressBook.addPerson(client);
+        addressBook.addPerson(vendor);
+        addressBook.addLink(client, vendor);
 
         model = new ModelManager(addressBook, new UserPrefs());
     }
@@ -72,19 +65,7 @@ public class UnlinkCommandTest {
         String expectedMessage = UnlinkCommand.MESSAGE_UNLINK_SUCCESS;
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        Person currentClient = expectedModel.getFilteredPersonList().get(0);
-        Person currentVendor = expectedModel.getFilteredPersonList().get(1);
-
-        // Unlink them in expected model
-        Person updatedClient = new Person(currentClient.getName(), currentClient.getPhone(),
-                currentClient.getEmail(), currentClient.getAddress(), currentClient.getWeddingDate().orElse(null),
-                currentClient.getType(), currentClient.getCategories(), java.util.Set.of(), null,
-                currentClient.getPartner());
-        Person updatedVendor = new Person(currentVendor.getName(), currentVendor.getPhone(),
-                currentVendor.getEmail(), currentVendor.getAddress(), currentVendor.getType(),
-                currentVendor.getCategories(), java.util.Set.of(), currentVendor.getPrice().orElse(null));
-        expectedModel.setPerson(currentClient, updatedClient);
-        expectedModel.setPerson(currentVendor, updatedVendor);
+        expectedModel.removeLink(client, vendor);
 
         assertCommandSuccess(unlinkCommand, model, expectedMessage, expectedModel);
     }
@@ -115,17 +96,10 @@ public class UnlinkCommandTest {
                 .withPhone("22222222").withEmail("client@example.com").withAddress("456 Client Ave")
                 .withWeddingDate("01-01-2024").withType(PersonType.CLIENT).build();
 
-        Person linkedVendor = new Person(vendorFirst.getName(), vendorFirst.getPhone(),
-                vendorFirst.getEmail(), vendorFirst.getAddress(), vendorFirst.getType(),
-                vendorFirst.getCategories(), java.util.Set.of(clientSecond), vendorFirst.getPrice().orElse(null));
-        Person linkedClient = new Person(clientSecond.getName(), clientSecond.getPhone(),
-                clientSecond.getEmail(), clientSecond.getAddress(), clientSecond.getWeddingDate().orElse(null),
-                clientSecond.getType(), clientSecond.getCategories(), java.util.Set.of(vendorFirst), null,
-                clientSecond.getPartner());
-
         AddressBook addressBook = new AddressBook();
-        addressBook.addPerson(linkedVendor);
-        addressBook.addPerson(linkedClient);
+        addressBook.addPerson(vendorFirst);
+        addressBook.addPerson(clientSecond);
+        addressBook.addLink(vendorFirst, clientSecond);
         Model testModel = new ModelManager(addressBook, new UserPrefs());
 
         // Try to unlink with first index (vendor) as client
@@ -144,18 +118,10 @@ public class UnlinkCommandTest {
                 .withPhone("88888888")
                 .withType(PersonType.CLIENT).build();
 
-        Person linkedClient1 = new Person(clientFirst.getName(), clientFirst.getPhone(),
-                clientFirst.getEmail(), clientFirst.getAddress(), clientFirst.getWeddingDate().orElse(null),
-                clientFirst.getType(), clientFirst.getCategories(), java.util.Set.of(clientSecond), null,
-                clientFirst.getPartner());
-        Person linkedClient2 = new Person(clientSecond.getName(), clientSecond.getPhone(),
-                clientSecond.getEmail(), clientSecond.getAddress(), clientSecond.getWeddingDate().orElse(null),
-                clientSecond.getType(), clientSecond.getCategories(), java.util.Set.of(clientFirst), null,
-                clientSecond.getPartner());
-
         AddressBook addressBook = new AddressBook();
-        addressBook.addPerson(linkedClient1);
-        addressBook.addPerson(linkedClient2);
+        addressBook.addPerson(clientFirst);
+        addressBook.addPerson(clientSecond);
+        addressBook.addLink(clientFirst, clientSecond);
         Model testModel = new ModelManager(addressBook, new UserPrefs());
 
         // Try to unlink with second index (client) as vendor
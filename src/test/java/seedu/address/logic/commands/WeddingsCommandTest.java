@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.WeddingDateInRangePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code WeddingsCommand}.
+ */
+public class WeddingsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        WeddingDateInRangePredicate firstPredicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        WeddingDateInRangePredicate secondPredicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+        WeddingsCommand firstCommand = new WeddingsCommand(firstPredicate);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new WeddingsCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(firstCommand.equals(new WeddingsCommand(secondPredicate)));
+    }
+
+    @Test
+    public void execute_noWeddingsInWindow_noPersonFound() {
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new WeddingsCommand(predicate), model, getExpectedMessage(0, predicate), expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_weddingsInWindow_personsFound() {
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 2));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new WeddingsCommand(predicate), model, getExpectedMessage(2, predicate), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_weddingsAddedOutOfOrder_listedByDate() {
+        Person earlyWedding = new PersonBuilder().withName("Early Wedding").withWeddingDate("15-01-2024").build();
+        model.addPerson(earlyWedding);
+
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 2));
+        new WeddingsCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(ALICE, earlyWedding, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_window_shownAsEntered() {
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        String feedback = new WeddingsCommand(predicate).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(WeddingsCommand.MESSAGE_WINDOW, "01-01-2024", "31-01-2024")));
+    }
+
+    @Test
+    public void execute_weddingMovedOutOfWindow_hidden() {
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        new WeddingsCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withWeddingDate("01-03-2024").build());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        WeddingDateInRangePredicate predicate =
+                new WeddingDateInRangePredicate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        WeddingsCommand command = new WeddingsCommand(predicate);
+        String expected = WeddingsCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static String getExpectedMessage(int count, WeddingDateInRangePredicate predicate) {
+        return Messages.getPersonsListedMessage(count)
+                + "\n" + String.format(WeddingsCommand.MESSAGE_WINDOW,
+                        WeddingDate.formatDayMonthYear(predicate.getFrom()),
+                        WeddingDate.formatDayMonthYear(predicate.getTo()))
+                + "\nUse the 'list' command to go back and view all contacts.";
+    }
+}
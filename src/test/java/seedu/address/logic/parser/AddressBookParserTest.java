@@ -7,10 +7,13 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
@@ -19,11 +22,16 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchAllCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnlinkCommand;
+import seedu.address.logic.commands.WeddingsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameStartsWithPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.WeddingDateInRangePredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -112,6 +120,36 @@ public class AddressBookParserTest {
                 seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD + " 3") instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " " + StatsCommand.RESET_ARGUMENT)
+                instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_match() throws Exception {
+        MatchCommand command = (MatchCommand) parser.parseCommand(
+                MatchCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new MatchCommand(INDEX_FIRST_PERSON), command);
+        assertTrue(parser.parseCommand(MatchCommand.COMMAND_WORD + " all") instanceof MatchAllCommand);
+    }
+
+    @Test
+    public void parseCommand_weddings() throws Exception {
+        WeddingsCommand command = (WeddingsCommand) parser.parseCommand(
+                WeddingsCommand.COMMAND_WORD + " 01-06-2026 31-08-2026");
+        assertEquals(new WeddingsCommand(new WeddingDateInRangePredicate(
+                LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31))), command);
+        assertTrue(parser.parseCommand(WeddingsCommand.COMMAND_WORD) instanceof WeddingsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), (
@@ -136,6 +136,28 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_takenAsValue() {
+        String argsString = "Preamble\tp/ tab\np/ newline -t\t^Q tab p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "Preamble\tp/ tab\np/ newline");
+        assertArgumentPresent(argMultimap, dashT, "^Q tab");
+        assertArgumentPresent(argMultimap, pSlash, "");
+        assertArgumentAbsent(argMultimap, hatQ);
+    }
+
+    @Test
+    public void tokenize_prefixesWithSameFirstCharacter() {
+        Prefix pr = new Prefix("pr/");
+        Prefix price = new Prefix("price/");
+        String argsString = " \t p/ phone\t pr/partner price/ 100 \n pr/ p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pr, price);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "phone", "");
+        assertArgumentPresent(argMultimap, pr, "partner", "");
+        assertArgumentPresent(argMultimap, price, "100");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
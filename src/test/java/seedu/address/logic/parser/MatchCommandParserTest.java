@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchAllCommand;
+import seedu.address.logic.commands.MatchCommand;
+
+public class MatchCommandParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 5, 20);
+
+    private MatchCommandParser parser = new MatchCommandParser(
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    public void parse_validIndex_returnsMatchCommand() {
+        assertParseSuccess(parser, " 1 ", new MatchCommand(INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_all_returnsMatchAllCommandFromToday() {
+        assertParseSuccess(parser, "all", new MatchAllCommand(TODAY));
+        assertParseSuccess(parser, " ALL ", new MatchAllCommand(TODAY));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", usage);
+        assertParseFailure(parser, "1 2", usage);
+        assertParseFailure(parser, "all 1", usage);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertParseFailure(parser, "abc", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final CommandStats commandStats = new CommandStats();
+    private final StatsCommandParser parser = new StatsCommandParser(commandStats);
+
+    @Test
+    public void parse_noArgs_returnsShowingStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(commandStats, false));
+        assertParseSuccess(parser, "   ", new StatsCommand(commandStats, false));
+    }
+
+    @Test
+    public void parse_reset_returnsResettingStatsCommand() {
+        assertParseSuccess(parser, "reset", new StatsCommand(commandStats, true));
+        assertParseSuccess(parser, " RESET ", new StatsCommand(commandStats, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "clear", usage);
+        assertParseFailure(parser, "reset now", usage);
+    }
+}
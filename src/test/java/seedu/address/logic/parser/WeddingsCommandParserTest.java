@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.WeddingsCommand;
+import seedu.address.model.date.WeddingDate;
+import seedu.address.model.person.WeddingDateInRangePredicate;
+
+public class WeddingsCommandParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 5, 20);
+
+    private WeddingsCommandParser parser = new WeddingsCommandParser(
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    public void parse_emptyArg_returnsNextDefaultDays() {
+        WeddingsCommand expected = new WeddingsCommand(
+                new WeddingDateInRangePredicate(TODAY, TODAY.plusDays(WeddingsCommand.DEFAULT_DAYS)));
+        assertParseSuccess(parser, "", expected);
+        assertParseSuccess(parser, "   ", expected);
+    }
+
+    @Test
+    public void parse_days_returnsNextDays() {
+        assertParseSuccess(parser, " 7 ",
+                new WeddingsCommand(new WeddingDateInRangePredicate(TODAY, TODAY.plusDays(7))));
+        assertParseSuccess(parser, "0", new WeddingsCommand(new WeddingDateInRangePredicate(TODAY, TODAY)));
+    }
+
+    @Test
+    public void parse_twoDates_returnsWindow() {
+        WeddingsCommand expected = new WeddingsCommand(
+                new WeddingDateInRangePredicate(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31)));
+        assertParseSuccess(parser, "01-06-2026 31-08-2026", expected);
+        assertParseSuccess(parser, "  2026-06-01   2026-08-31 ", expected);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WeddingsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "soon", invalidFormat);
+        assertParseFailure(parser, "-1", invalidFormat);
+        assertParseFailure(parser, "01-06-2026 31-08-2026 extra", invalidFormat);
+        assertParseFailure(parser, String.valueOf(WeddingsCommandParser.MAX_DAYS + 1),
+                String.format(WeddingsCommandParser.MESSAGE_INVALID_DAYS, WeddingsCommandParser.MAX_DAYS));
+        assertParseFailure(parser, "01-06-2026 soon", WeddingDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "31-08-2026 01-06-2026", WeddingsCommandParser.MESSAGE_INVALID_WINDOW);
+    }
+}
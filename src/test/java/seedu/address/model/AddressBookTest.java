@@ -4,21 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.BookingConflict;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonType;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -52,6 +62,33 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void loadPersons_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.loadPersons(null, Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> addressBook.loadPersons(List.of(ALICE), null));
+    }
+
+    @Test
+    public void loadPersons_withDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.loadPersons(Arrays.asList(ALICE, editedAlice), Collections.emptyMap()));
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void loadPersons_withLinkedIds_resolvesLinks() {
+        Map<PersonId, List<PersonId>> linkedIds = Map.of(
+                ALICE.getId(), List.of(BENSON.getId(), PersonId.generate()));
+        addressBook.loadPersons(Arrays.asList(ALICE, BENSON, CARL), linkedIds);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertTrue(addressBook.hasLink(ALICE, BENSON));
+        assertTrue(addressBook.hasLink(BENSON, ALICE));
+        assertEquals(List.of(BENSON), addressBook.getLinkedPersons(ALICE));
+        assertTrue(addressBook.getLinkedPersons(CARL).isEmpty());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -76,11 +113,234 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addLink_personNotInAddressBook_throwsPersonNotFoundException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> addressBook.addLink(ALICE, BENSON));
+    }
+
+    @Test
+    public void removeLink_linkedPersons_removesLinkOnBothSides() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addLink(ALICE, BENSON);
+
+        addressBook.removeLink(BENSON, ALICE);
+        assertFalse(addressBook.hasLink(ALICE, BENSON));
+        assertTrue(addressBook.getLinkedPersons(ALICE).isEmpty());
+        assertTrue(addressBook.getLinkedPersons(BENSON).isEmpty());
+    }
+
+    @Test
+    public void setPerson_linkedPersonWithNewPhone_keepsLinks() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(ALICE, BENSON);
+        addressBook.addLink(ALICE, CARL);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertEquals(List.of(BENSON, CARL), addressBook.getLinkedPersons(editedAlice));
+        assertEquals(List.of(editedAlice), addressBook.getLinkedPersons(BENSON));
+        assertEquals(List.of(editedAlice), addressBook.getLinkedPersons(CARL));
+    }
+
+    @Test
+    public void removePerson_linkedPerson_removesLinks() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addLink(ALICE, BENSON);
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getLinkedPersons(BENSON).isEmpty());
+
+        // re-adding a person with the same phone does not bring the old link back
+        addressBook.addPerson(ALICE);
+        assertFalse(addressBook.hasLink(ALICE, BENSON));
+    }
+
+    @Test
+    public void resetData_withLinks_copiesLinks() {
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        newData.addPerson(BENSON);
+        newData.addLink(ALICE, BENSON);
+
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasLink(ALICE, BENSON));
+        assertEquals(newData, addressBook);
+
+        // links are copied, not shared
+        newData.removeLink(ALICE, BENSON);
+        assertTrue(addressBook.hasLink(ALICE, BENSON));
+        assertFalse(addressBook.equals(newData));
+    }
+
+    @Test
+    public void getBookingConflicts_linkEditUnlinkDelete_keptUpToDate() {
+        Person otherClient = new PersonBuilder().withName("Ann Sametime").withPhone("91234000")
+                .withType(PersonType.CLIENT).withWeddingDate("01-01-2024").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(otherClient);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(ALICE, CARL);
+        addressBook.addLink(CARL, BENSON);
+        assertEquals(List.of(ALICE), addressBook.getClientsBookedWith(CARL, LocalDate.of(2024, 1, 1)));
+        assertTrue(addressBook.getBookingConflicts().isEmpty());
+
+        // link -> double booked
+        addressBook.addLink(otherClient, CARL);
+        assertEquals(List.of(new BookingConflict(CARL, LocalDate.of(2024, 1, 1), List.of(ALICE, otherClient))),
+                addressBook.getBookingConflicts());
+
+        // edit wedding date -> moved to the new date
+        Person editedBenson = new PersonBuilder(BENSON).withWeddingDate("01-01-2024").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(new BookingConflict(CARL, LocalDate.of(2024, 1, 1),
+                List.of(ALICE, otherClient, editedBenson))), addressBook.getBookingConflicts());
+        assertTrue(addressBook.getClientsBookedWith(CARL, LocalDate.of(2024, 2, 2)).isEmpty());
+
+        // edit vendor -> bookings kept
+        Person editedCarl = new PersonBuilder(CARL).withPrice("900").build();
+        addressBook.setPerson(CARL, editedCarl);
+        assertEquals(3, addressBook.getClientsBookedWith(editedCarl, LocalDate.of(2024, 1, 1)).size());
+
+        // unlink and delete -> no longer double booked
+        addressBook.removeLink(editedCarl, otherClient);
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(editedBenson), addressBook.getClientsBookedWith(editedCarl, LocalDate.of(2024, 1, 1)));
+        assertTrue(addressBook.getBookingConflicts().isEmpty());
+
+        // deleting the vendor removes its bookings
+        addressBook.addLink(otherClient, editedCarl);
+        addressBook.removePerson(editedCarl);
+        assertTrue(addressBook.getBookingConflicts().isEmpty());
+        assertTrue(addressBook.getClientsBookedWith(editedCarl, LocalDate.of(2024, 1, 1)).isEmpty());
+    }
+
+    @Test
+    public void replacePersons_linkedPersons_keepsLinksAndBookings() {
+        Person otherClient = new PersonBuilder().withName("Ann Sametime").withPhone("91234000")
+                .withType(PersonType.CLIENT).withWeddingDate("02-01-2024").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(otherClient);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(ALICE, CARL);
+        addressBook.addLink(otherClient, CARL);
+
+        Person editedOtherClient = new PersonBuilder(otherClient).withWeddingDate("01-01-2024").build();
+        Person editedCarl = new PersonBuilder(CARL).withPrice("900").build();
+        addressBook.replacePersons(Map.of(otherClient, editedOtherClient, CARL, editedCarl));
+
+        assertEquals(List.of(ALICE, editedOtherClient, editedCarl), addressBook.getPersonList());
+        assertEquals(List.of(ALICE, editedOtherClient), addressBook.getLinkedPersons(editedCarl));
+        assertEquals(List.of(new BookingConflict(editedCarl, LocalDate.of(2024, 1, 1),
+                List.of(ALICE, editedOtherClient))), addressBook.getBookingConflicts());
+    }
+
+    @Test
+    public void replacePersons_oneReplacementInvalid_leavesAddressBookUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(ALICE, CARL);
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+
+        Person editedAlice = new PersonBuilder(ALICE).withWeddingDate("05-05-2025").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone(CARL.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.replacePersons(Map.of(ALICE, editedAlice, BENSON, editedBenson)));
+
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(List.of(ALICE), addressBook.getClientsBookedWith(CARL, LocalDate.of(2024, 1, 1)));
+        assertTrue(addressBook.getClientsBookedWith(CARL, LocalDate.of(2025, 5, 5)).isEmpty());
+    }
+
+    @Test
+    public void setPerson_duplicatePhone_leavesAddressBookUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(ALICE, CARL);
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+
+        Person editedAlice = new PersonBuilder(ALICE).withWeddingDate("05-05-2025")
+                .withPhone(BENSON.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.setPerson(ALICE, editedAlice));
+
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(List.of(ALICE), addressBook.getClientsBookedWith(CARL, LocalDate.of(2024, 1, 1)));
+        assertTrue(addressBook.getClientsBookedWith(CARL, LocalDate.of(2025, 5, 5)).isEmpty());
+    }
+
+    @Test
+    public void resetData_doubleBookedVendor_rebuildsBookingConflicts() {
+        Person otherClient = new PersonBuilder().withName("Ann Sametime").withPhone("91234000")
+                .withType(PersonType.CLIENT).withWeddingDate("01-01-2024").build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        newData.addPerson(otherClient);
+        newData.addPerson(CARL);
+        newData.addLink(ALICE, CARL);
+        newData.addLink(otherClient, CARL);
+
+        addressBook.resetData(newData);
+        assertEquals(newData.getBookingConflicts(), addressBook.getBookingConflicts());
+        assertEquals(1, addressBook.getBookingConflicts().size());
+
+        addressBook.setPersons(List.of(ALICE, otherClient, CARL));
+        assertTrue(addressBook.getBookingConflicts().isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addLink(ALICE, BENSON);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        assertEquals(new AddressBook(addressBook), new AddressBook(snapshot));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(CARL);
+        addressBook.addLink(editedAlice, CARL);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(List.of(BENSON), snapshot.getLinkedPersons(ALICE));
+        assertEquals(Optional.of(BENSON), snapshot.findPersonById(BENSON.getId()));
+
+        AddressBookSnapshot latest = addressBook.getSnapshot();
+        assertTrue(latest.getVersion() > snapshot.getVersion());
+        assertEquals(List.of(editedAlice, CARL), latest.getPersonList());
+        assertEquals(List.of(CARL), latest.getLinkedPersons(editedAlice));
+        assertEquals(Optional.empty(), latest.findPersonById(BENSON.getId()));
+        assertEquals(new AddressBook(addressBook), new AddressBook(latest));
+    }
+
+    @Test
+    public void getSnapshot_afterResetData_hasNewData() {
+        addressBook.addPerson(CARL);
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        newData.addPerson(BENSON);
+        newData.addLink(ALICE, BENSON);
+
+        addressBook.resetData(newData);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(List.of(ALICE), snapshot.getLinkedPersons(BENSON));
+        assertEquals(newData.getSnapshot(), snapshot);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -101,6 +361,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public List<Person> getLinkedPersons(Person person) {
+            return Collections.emptyList();
+        }
     }
 
 }
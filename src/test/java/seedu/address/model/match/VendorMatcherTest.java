@@ -0,0 +1,132 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Price;
+import seedu.address.testutil.PersonBuilder;
+
+public class VendorMatcherTest {
+
+    private static final Person CLIENT = new PersonBuilder().withName("Clara Client").withPhone("91110001")
+            .withType(PersonType.CLIENT).withWeddingDate("01-06-2026").withBudget("1000-3000").build();
+    private static final Person RIVAL_CLIENT = new PersonBuilder().withName("Rita Rival").withPhone("91110002")
+            .withType(PersonType.CLIENT).withWeddingDate("01-06-2026").withBudget("1000-3000").build();
+    private static final Person LATER_CLIENT = new PersonBuilder().withName("Leo Later").withPhone("91110003")
+            .withType(PersonType.CLIENT).withWeddingDate("01-07-2026").withBudget("2500-6000").build();
+    private static final Person CHEAP_PHOTOGRAPHER = new PersonBuilder().withName("Cheap Photos").withPhone("81110001")
+            .withType(PersonType.VENDOR).withPrice("500-1500").withTags("Photographer").build();
+    private static final Person FIT_PHOTOGRAPHER = new PersonBuilder().withName("Fit Photos").withPhone("81110002")
+            .withType(PersonType.VENDOR).withPrice("1500-2500").withTags("photographer", "videographer").build();
+    private static final Person CATERER = new PersonBuilder().withName("Cathy Caterer").withPhone("81110003")
+            .withType(PersonType.VENDOR).withPrice("2000-4000").withTags("caterer").build();
+    private static final Person FLAT_FEE = new PersonBuilder().withName("Flat Fee").withPhone("81110004")
+            .withType(PersonType.VENDOR).withPrice("3000").build();
+    private static final Person PRICEY = new PersonBuilder().withName("Pricey Place").withPhone("81110005")
+            .withType(PersonType.VENDOR).withPrice("8000-9000").withTags("venue").build();
+
+    private Model model;
+    private VendorMatcher matcher;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : List.of(CLIENT, RIVAL_CLIENT, LATER_CLIENT, CHEAP_PHOTOGRAPHER, FIT_PHOTOGRAPHER,
+                CATERER, FLAT_FEE, PRICEY)) {
+            addressBook.addPerson(person);
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        matcher = new VendorMatcher(model);
+    }
+
+    @Test
+    public void constructor_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new VendorMatcher(null));
+    }
+
+    @Test
+    public void match_groupsByCategoryBestFirst() {
+        Map<String, List<VendorMatch>> matches = matcher.match(CLIENT);
+
+        assertEquals(List.of("caterer", "photographer", "videographer", VendorMatcher.UNCATEGORIZED),
+                List.copyOf(matches.keySet()));
+        assertEquals(List.of(FIT_PHOTOGRAPHER, CHEAP_PHOTOGRAPHER), getVendors(matches.get("photographer")));
+        assertEquals(List.of(FIT_PHOTOGRAPHER), getVendors(matches.get("videographer")));
+        assertEquals(List.of(CATERER), getVendors(matches.get("caterer")));
+        assertEquals(List.of(FLAT_FEE), getVendors(matches.get(VendorMatcher.UNCATEGORIZED)));
+        assertEquals(0.5, matches.get("caterer").get(0).getFit());
+    }
+
+    @Test
+    public void match_vendorBookedByOtherClientOnSameDate_excluded() {
+        model.addLink(RIVAL_CLIENT, CATERER);
+        assertFalse(matcher.match(CLIENT).containsKey("caterer"));
+
+        // the client that booked the vendor still sees it
+        assertEquals(List.of(CATERER), getVendors(matcher.match(RIVAL_CLIENT).get("caterer")));
+
+        // a client with a different wedding date still sees it
+        assertEquals(List.of(CATERER), getVendors(matcher.match(LATER_CLIENT).get("caterer")));
+    }
+
+    @Test
+    public void match_noBudget_returnsNoGroups() {
+        Person client = new PersonBuilder(CLIENT).withoutBudget().build();
+        assertTrue(matcher.match(client).isEmpty());
+    }
+
+    @Test
+    public void matchAll_sameResultsAsMatchInOrder() {
+        model.addLink(RIVAL_CLIENT, CATERER);
+        List<Person> clients = List.of(LATER_CLIENT, CLIENT, RIVAL_CLIENT);
+
+        Map<Person, Map<String, List<VendorMatch>>> matches = matcher.matchAll(clients);
+
+        assertEquals(clients, List.copyOf(matches.keySet()));
+        for (Person client : clients) {
+            assertEquals(matcher.match(client), matches.get(client));
+        }
+    }
+
+    @Test
+    public void matchAll_callerInterrupted_throwsCancellationException() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> matcher.matchAll(List.of(CLIENT, RIVAL_CLIENT)));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void getFit() {
+        // entirely within the budget
+        assertEquals(1.0, VendorMatcher.getFit(new Price("1500-2500"), 1000, 3000));
+
+        // half within the budget
+        assertEquals(0.5, VendorMatcher.getFit(new Price("500-1500"), 1000, 3000));
+
+        // single amount
+        assertEquals(1.0, VendorMatcher.getFit(new Price("3000"), 1000, 3000));
+    }
+
+    private static List<Person> getVendors(List<VendorMatch> matches) {
+        return matches.stream().map(VendorMatch::getVendor).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AmountIntervalIndexTest {
+
+    private final AmountIntervalIndex index = new AmountIntervalIndex();
+
+    @Test
+    public void findOverlapping_emptyIndex_returnsEmptySet() {
+        assertTrue(index.findOverlapping(0, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void findOverlapping_inclusiveEndsAndOrderedByLowerEnd() {
+        PersonId cheap = PersonId.generate();
+        PersonId mid = PersonId.generate();
+        PersonId pricey = PersonId.generate();
+        index.put(pricey, 6000, 9000);
+        index.put(cheap, 500, 2000);
+        index.put(mid, 3000, 3000);
+
+        assertEquals(List.of(cheap, mid), new ArrayList<>(index.findOverlapping(2000, 5000)));
+        assertEquals(Set.of(mid), index.findOverlapping(2001, 5999));
+        assertEquals(Set.of(pricey), index.findOverlapping(9000, 20000));
+        assertTrue(index.findOverlapping(9001, 20000).isEmpty());
+        assertTrue(index.findOverlapping(5000, 2000).isEmpty());
+    }
+
+    @Test
+    public void put_existingId_replacesRange() {
+        PersonId id = PersonId.generate();
+        index.put(id, 100, 200);
+        index.put(id, 1000, 2000);
+
+        assertEquals(1, index.size());
+        assertTrue(index.findOverlapping(100, 200).isEmpty());
+        assertEquals(Set.of(id), index.findOverlapping(1500, 1500));
+    }
+
+    @Test
+    public void putAndRemove_manyRanges_sameResultsAsScan() {
+        Random random = new Random(42);
+        Map<PersonId, long[]> ranges = new HashMap<>();
+        List<PersonId> ids = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            PersonId id = PersonId.generate();
+            long min = random.nextInt(10000);
+            long max = min + random.nextInt(3) * random.nextInt(2000);
+            ranges.put(id, new long[] {min, max});
+            ids.add(id);
+            index.put(id, min, max);
+        }
+        for (int i = 0; i < ids.size(); i += 3) {
+            ranges.remove(ids.get(i));
+            index.remove(ids.get(i));
+        }
+
+        assertEquals(ranges.size(), index.size());
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(12000);
+            long to = from + random.nextInt(1500);
+            Set<PersonId> expected = ranges.entrySet().stream()
+                    .filter(entry -> entry.getValue()[0] <= to && entry.getValue()[1] >= from)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.findOverlapping(from, to));
+        }
+    }
+
+    @Test
+    public void clear_removesAllRanges() {
+        index.put(PersonId.generate(), 0, 10);
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.findOverlapping(0, 10).isEmpty());
+    }
+}
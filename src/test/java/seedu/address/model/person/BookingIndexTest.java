@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BookingIndexTest {
+
+    private static final PersonId VENDOR = PersonId.generate();
+    private static final PersonId OTHER_VENDOR = PersonId.generate();
+    private static final PersonId CLIENT = PersonId.generate();
+    private static final PersonId OTHER_CLIENT = PersonId.generate();
+    private static final LocalDate DATE = LocalDate.of(2026, 6, 1);
+    private static final LocalDate EARLIER_DATE = LocalDate.of(2026, 3, 1);
+
+    private final BookingIndex bookings = new BookingIndex();
+
+    @Test
+    public void book_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bookings.book(null, DATE, CLIENT));
+        assertThrows(NullPointerException.class, () -> bookings.book(VENDOR, null, CLIENT));
+        assertThrows(NullPointerException.class, () -> bookings.book(VENDOR, DATE, null));
+    }
+
+    @Test
+    public void getClients_noBookings_returnsEmptySet() {
+        assertTrue(bookings.getClients(VENDOR, DATE).isEmpty());
+    }
+
+    @Test
+    public void book_oneClient_notDoubleBooked() {
+        bookings.book(VENDOR, DATE, CLIENT);
+        bookings.book(VENDOR, DATE, CLIENT);
+        assertEquals(Set.of(CLIENT), bookings.getClients(VENDOR, DATE));
+        assertTrue(bookings.getClients(VENDOR, EARLIER_DATE).isEmpty());
+        assertTrue(bookings.getDoubleBookings().isEmpty());
+    }
+
+    @Test
+    public void book_twoClientsSameDate_doubleBooked() {
+        bookings.book(VENDOR, DATE, CLIENT);
+        bookings.book(VENDOR, DATE, OTHER_CLIENT);
+        bookings.book(OTHER_VENDOR, EARLIER_DATE, CLIENT);
+        bookings.book(OTHER_VENDOR, EARLIER_DATE, OTHER_CLIENT);
+
+        assertEquals(Set.of(CLIENT, OTHER_CLIENT), bookings.getClients(VENDOR, DATE));
+        assertEquals(List.of(EARLIER_DATE, DATE), List.copyOf(bookings.getDoubleBookings().keySet()));
+        assertEquals(Map.of(EARLIER_DATE, List.of(OTHER_VENDOR), DATE, List.of(VENDOR)),
+                bookings.getDoubleBookings());
+    }
+
+    @Test
+    public void unbook_doubleBookedVendor_clearsDoubleBooking() {
+        bookings.book(VENDOR, DATE, CLIENT);
+        bookings.book(VENDOR, DATE, OTHER_CLIENT);
+
+        bookings.unbook(VENDOR, DATE, CLIENT);
+        assertEquals(Set.of(OTHER_CLIENT), bookings.getClients(VENDOR, DATE));
+        assertTrue(bookings.getDoubleBookings().isEmpty());
+
+        bookings.unbook(VENDOR, DATE, OTHER_CLIENT);
+        assertTrue(bookings.getClients(VENDOR, DATE).isEmpty());
+    }
+
+    @Test
+    public void unbook_unknownBooking_noEffect() {
+        bookings.book(VENDOR, DATE, CLIENT);
+        bookings.unbook(VENDOR, DATE, OTHER_CLIENT);
+        bookings.unbook(OTHER_VENDOR, DATE, CLIENT);
+        bookings.unbook(VENDOR, EARLIER_DATE, CLIENT);
+        assertEquals(Set.of(CLIENT), bookings.getClients(VENDOR, DATE));
+    }
+
+    @Test
+    public void clear_removesAllBookings() {
+        bookings.book(VENDOR, DATE, CLIENT);
+        bookings.book(VENDOR, DATE, OTHER_CLIENT);
+        bookings.clear();
+        assertTrue(bookings.getClients(VENDOR, DATE).isEmpty());
+        assertTrue(bookings.getDoubleBookings().isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.VENDOR_ALICE;
+import static seedu.address.testutil.TypicalPersons.VENDOR_BOB;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class CategoryIndexTest {
+
+    private final CategoryIndex categoryIndex = new CategoryIndex();
+
+    @Test
+    public void findIds_emptyIndex_returnsEmptySet() {
+        assertTrue(categoryIndex.findIds("florist").isEmpty());
+        assertEquals(0, categoryIndex.count("florist"));
+    }
+
+    @Test
+    public void findIds_differentCase_matches() {
+        Person florist = new PersonBuilder().withPhone("11111111").withType(PersonType.VENDOR)
+                .withTags("Florist", "premium").build();
+        categoryIndex.put(florist);
+        categoryIndex.put(VENDOR_BOB);
+
+        assertEquals(Set.of(florist.getId()), categoryIndex.findIds("fLoRiSt"));
+        assertEquals(Set.of(florist.getId()), categoryIndex.findIds("PREMIUM"));
+        assertEquals(1, categoryIndex.count("florist"));
+        assertEquals(3, categoryIndex.size());
+    }
+
+    @Test
+    public void findIds_returnsCopy() {
+        categoryIndex.put(VENDOR_BOB);
+        categoryIndex.findIds("caterer").clear();
+        assertEquals(1, categoryIndex.count("caterer"));
+    }
+
+    @Test
+    public void remove_otherPersonsInCategory_kept() {
+        Person otherCaterer = new PersonBuilder().withPhone("11111111").withType(PersonType.VENDOR)
+                .withTags("caterer").build();
+        categoryIndex.put(VENDOR_BOB);
+        categoryIndex.put(otherCaterer);
+        categoryIndex.remove(VENDOR_BOB);
+
+        assertEquals(Set.of(otherCaterer.getId()), categoryIndex.findIds("caterer"));
+        assertEquals(1, categoryIndex.count("caterer"));
+    }
+
+    @Test
+    public void remove_lastPersonInCategory_removesCategory() {
+        categoryIndex.put(VENDOR_BOB);
+        categoryIndex.remove(VENDOR_BOB);
+        assertEquals(0, categoryIndex.size());
+    }
+
+    @Test
+    public void putAll_replacesExistingEntries() {
+        categoryIndex.put(VENDOR_BOB);
+        categoryIndex.putAll(List.of(VENDOR_ALICE));
+        assertEquals(0, categoryIndex.count("caterer"));
+        assertEquals(Set.of(VENDOR_ALICE.getId()), categoryIndex.findIds("photographer"));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkGraphTest {
+
+    private static final PersonId FIRST = new PersonId("00000000-0000-0000-0000-000000000001");
+    private static final PersonId SECOND = new PersonId("00000000-0000-0000-0000-000000000002");
+    private static final PersonId THIRD = new PersonId("00000000-0000-0000-0000-000000000003");
+    private static final PersonId FOURTH = new PersonId("00000000-0000-0000-0000-000000000004");
+
+    private final LinkGraph linkGraph = new LinkGraph();
+
+    @Test
+    public void link_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> linkGraph.link(null, FIRST));
+        assertThrows(NullPointerException.class, () -> linkGraph.link(FIRST, null));
+    }
+
+    @Test
+    public void link_sameId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> linkGraph.link(FIRST, new PersonId("00000000-0000-0000-0000-000000000001")));
+    }
+
+    @Test
+    public void link_twoIds_linksBothWays() {
+        linkGraph.link(FIRST, SECOND);
+        assertTrue(linkGraph.isLinked(FIRST, SECOND));
+        assertTrue(linkGraph.isLinked(SECOND, FIRST));
+        assertFalse(linkGraph.isLinked(FIRST, THIRD));
+    }
+
+    @Test
+    public void getLinks_multipleLinks_returnsInLinkOrder() {
+        linkGraph.link(FIRST, THIRD);
+        linkGraph.link(FIRST, SECOND);
+        assertEquals(List.of(THIRD, SECOND), List.copyOf(linkGraph.getLinks(FIRST)));
+        assertEquals(Set.of(), linkGraph.getLinks(FOURTH));
+    }
+
+    @Test
+    public void getLinks_modifySet_throwsUnsupportedOperationException() {
+        linkGraph.link(FIRST, SECOND);
+        assertThrows(UnsupportedOperationException.class, () -> linkGraph.getLinks(FIRST).clear());
+    }
+
+    @Test
+    public void unlink_linkedIds_removesBothDirections() {
+        linkGraph.link(FIRST, SECOND);
+        linkGraph.unlink(SECOND, FIRST);
+        assertFalse(linkGraph.isLinked(FIRST, SECOND));
+        assertFalse(linkGraph.isLinked(SECOND, FIRST));
+        assertEquals(new LinkGraph(), linkGraph);
+    }
+
+    @Test
+    public void removeAll_idWithLinks_removesOnlyItsLinks() {
+        linkGraph.link(FIRST, SECOND);
+        linkGraph.link(FIRST, THIRD);
+        linkGraph.link(SECOND, THIRD);
+
+        linkGraph.removeAll(FIRST);
+        assertTrue(linkGraph.getLinks(FIRST).isEmpty());
+        assertEquals(Set.of(THIRD), linkGraph.getLinks(SECOND));
+        assertEquals(Set.of(SECOND), linkGraph.getLinks(THIRD));
+    }
+
+    @Test
+    public void rekey_idWithLinks_movesLinks() {
+        linkGraph.link(FIRST, SECOND);
+        linkGraph.link(FIRST, THIRD);
+
+        linkGraph.rekey(FIRST, FOURTH);
+        assertTrue(linkGraph.getLinks(FIRST).isEmpty());
+        assertEquals(List.of(SECOND, THIRD), List.copyOf(linkGraph.getLinks(FOURTH)));
+        assertTrue(linkGraph.isLinked(SECOND, FOURTH));
+        assertTrue(linkGraph.isLinked(THIRD, FOURTH));
+        assertFalse(linkGraph.isLinked(SECOND, FIRST));
+    }
+
+    @Test
+    public void equals() {
+        linkGraph.link(FIRST, SECOND);
+        LinkGraph sameLinks = new LinkGraph();
+        sameLinks.link(SECOND, FIRST);
+
+        // same object -> returns true
+        assertTrue(linkGraph.equals(linkGraph));
+
+        // same links -> returns true
+        assertTrue(linkGraph.equals(sameLinks));
+        assertEquals(linkGraph.hashCode(), sameLinks.hashCode());
+
+        // null -> returns false
+        assertFalse(linkGraph.equals(null));
+
+        // different links -> returns false
+        sameLinks.link(FIRST, THIRD);
+        assertFalse(linkGraph.equals(sameLinks));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NamePrefixIndexTest {
+
+    private static final Person MARY = new PersonBuilder().withName("Mary-Ann O'Brien").withPhone("11111111")
+            .withType(PersonType.CLIENT).withPartner("Tom & Jerry Lee").build();
+    private static final Person MARK = new PersonBuilder().withName("Mark Lee").withPhone("22222222")
+            .withType(PersonType.VENDOR).build();
+    private static final Person ANN = new PersonBuilder().withName("Ann Tan Jr.").withPhone("33333333")
+            .withType(PersonType.CLIENT).withPartner("Maria Chen").build();
+
+    private final NamePrefixIndex nameIndex = new NamePrefixIndex();
+
+    @Test
+    public void findIds_emptyIndex_returnsEmptySet() {
+        assertTrue(nameIndex.findIds("ma").isEmpty());
+    }
+
+    @Test
+    public void findIds_sameResultsAsPredicate() {
+        List<Person> persons = List.of(MARY, MARK, ANN);
+        nameIndex.putAll(persons);
+
+        for (String query : List.of("m", "MA", "mar", "mary-", "ann", "Ann O", "-ann", "o'b", "'brien", "brien",
+                "lee", "tom", "& jerry", "&", "jerry l", "jr.", ".", "chen", "ria", "an", "zz")) {
+            NameStartsWithPredicate predicate = new NameStartsWithPredicate(query);
+            Set<PersonId> expected = persons.stream().filter(predicate).map(Person::getId).collect(Collectors.toSet());
+            assertEquals(expected, nameIndex.findIds(query), query);
+        }
+    }
+
+    @Test
+    public void remove_keysSharedWithOtherPerson_keepsOtherPerson() {
+        nameIndex.put(MARY);
+        nameIndex.put(MARK);
+        nameIndex.remove(MARK);
+
+        assertEquals(Set.of(MARY.getId()), nameIndex.findIds("lee"));
+        assertTrue(nameIndex.findIds("mark").isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithKeys_removesKeys() {
+        nameIndex.put(MARK);
+        nameIndex.remove(MARK);
+        assertEquals(0, nameIndex.size());
+    }
+
+    @Test
+    public void putAll_replacesExistingEntries() {
+        nameIndex.put(MARK);
+        nameIndex.putAll(List.of(ANN));
+        assertTrue(nameIndex.findIds("mark").isEmpty());
+        assertEquals(Set.of(ANN.getId()), nameIndex.findIds("an"));
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -64,6 +66,17 @@ public class NameStartsWithPredicateTest {
         assertTrue(p.test(client));
     }
 
+    @Test
+    public void getQuery_turkishDefaultLocale_lowerCasedLikeIndexKeys() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("ivan", new NameStartsWithPredicate("Ivan").getQuery());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         NameStartsWithPredicate predicate = new NameStartsWithPredicate("al");
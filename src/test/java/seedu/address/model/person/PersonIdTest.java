@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    private static final String VALID_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonId(null));
+    }
+
+    @Test
+    public void constructor_invalidPersonId_throwsIllegalArgumentException() {
+        String invalidPersonId = "";
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(invalidPersonId));
+    }
+
+    @Test
+    public void isValidPersonId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> PersonId.isValidPersonId(null));
+
+        // invalid ids
+        assertFalse(PersonId.isValidPersonId("")); // empty string
+        assertFalse(PersonId.isValidPersonId("12345678")); // phone number
+        assertFalse(PersonId.isValidPersonId("123e4567e89b12d3a456426614174000")); // missing dashes
+        assertFalse(PersonId.isValidPersonId("123e4567-e89b-12d3-a456-42661417400g")); // non-hex digit
+
+        // valid ids
+        assertTrue(PersonId.isValidPersonId(VALID_ID));
+        assertTrue(PersonId.isValidPersonId(VALID_ID.toUpperCase()));
+        assertTrue(PersonId.isValidPersonId(PersonId.generate().value));
+    }
+
+    @Test
+    public void generate_calledTwice_returnsDifferentIds() {
+        assertNotEquals(PersonId.generate(), PersonId.generate());
+    }
+
+    @Test
+    public void fromLegacyPhone_samePhone_returnsSameId() {
+        assertEquals(PersonId.fromLegacyPhone(new Phone("12345678")), PersonId.fromLegacyPhone(new Phone("12345678")));
+        assertNotEquals(PersonId.fromLegacyPhone(new Phone("12345678")),
+                PersonId.fromLegacyPhone(new Phone("87654321")));
+    }
+
+    @Test
+    public void equals() {
+        PersonId personId = new PersonId(VALID_ID);
+
+        // same values -> returns true
+        assertTrue(personId.equals(new PersonId(VALID_ID)));
+
+        // same value in different case -> returns true
+        assertTrue(personId.equals(new PersonId(VALID_ID.toUpperCase())));
+
+        // same object -> returns true
+        assertTrue(personId.equals(personId));
+
+        // null -> returns false
+        assertFalse(personId.equals(null));
+
+        // different types -> returns false
+        assertFalse(personId.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(personId.equals(PersonId.generate()));
+    }
+}
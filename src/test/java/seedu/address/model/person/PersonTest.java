@@ -24,6 +24,16 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getCategories().remove(0));
     }
 
+    @Test
+    public void ofValidatedFields_sameFields_equalPerson() {
+        Person person = Person.ofValidatedFields(ALICE.getId(), ALICE.getName().fullName, ALICE.getPhone().value,
+                ALICE.getEmail().value, ALICE.getAddress().value, ALICE.getWeddingDate().orElse(null),
+                ALICE.getType(), ALICE.getCategories(), ALICE.getPrice().orElse(null),
+                ALICE.getBudget().orElse(null), ALICE.getPartner().map(partner -> partner.value).orElse(null));
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.getPhone().toKey(), person.getPhone().toKey());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -90,8 +100,7 @@ public class PersonTest {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
                 + ", email=" + ALICE.getEmail() + ", address=" + ALICE.getAddress() + ", weddingDate="
                 + ALICE.getWeddingDate().orElse(null) + ", categories=" + ALICE.getCategories() + ", type="
-                + ALICE.getType() + ", price=" + ALICE.getPrice().orElse(null)
-                + ", linkedPersons=0 link(s)}";
+                + ALICE.getType() + ", price=" + ALICE.getPrice().orElse(null) + "}";
         assertEquals(expected, ALICE.toString());
     }
 }
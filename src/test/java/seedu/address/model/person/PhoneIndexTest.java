@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+
+    @Test
+    public void get_emptyIndex_returnsNull() {
+        assertNull(phoneIndex.get(12345678));
+    }
+
+    @Test
+    public void put_samePhoneTwice_replacesPerson() {
+        Person first = new PersonBuilder().withPhone("12345678").build();
+        Person second = new PersonBuilder().withPhone("12345678").withName("Other Name").build();
+        phoneIndex.put(first);
+        phoneIndex.put(second);
+        assertEquals(second, phoneIndex.get(12345678));
+        assertEquals(1, phoneIndex.size());
+    }
+
+    @Test
+    public void putAndRemove_manyPersons_keepsRemainingReachable() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withPhone(String.format("9%07d", i)).build();
+            persons.add(person);
+            phoneIndex.put(person);
+        }
+
+        // remove every other person, which forces entries to be shifted back along probe runs
+        for (int i = 0; i < persons.size(); i += 2) {
+            phoneIndex.remove(persons.get(i).getPhone().toKey());
+        }
+
+        assertEquals(250, phoneIndex.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person expected = i % 2 == 0 ? null : persons.get(i);
+            assertEquals(expected, phoneIndex.get(persons.get(i).getPhone().toKey()));
+        }
+    }
+
+    @Test
+    public void putAll_replacesExistingEntries() {
+        Person stale = new PersonBuilder().withPhone("11111111").build();
+        Person fresh = new PersonBuilder().withPhone("22222222").build();
+        phoneIndex.put(stale);
+        phoneIndex.putAll(List.of(fresh));
+        assertNull(phoneIndex.get(11111111));
+        assertEquals(fresh, phoneIndex.get(22222222));
+    }
+}
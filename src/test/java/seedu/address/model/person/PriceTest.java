@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -97,4 +98,15 @@ public class PriceTest {
         Price largePrice = new Price("10000");
         assertTrue(largePrice.toString().equals("$10,000"));
     }
+
+    @Test
+    public void getMinAndMax() {
+        Price range = new Price("800-1500");
+        assertEquals(800, range.getMin());
+        assertEquals(1500, range.getMax());
+
+        Price single = new Price("9999999999");
+        assertEquals(9999999999L, single.getMin());
+        assertEquals(9999999999L, single.getMax());
+    }
 }
@@ -4,16 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.VENDOR_BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -46,6 +54,92 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByPhone_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void findByPhone_afterPhoneEdited_followsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findByPhone(editedAlice.getPhone()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findByPhone_afterRemoveAndSetPersons_staysInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void findIdsByNamePrefix_afterNameEdited_followsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByNamePrefix("pau"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptySet(), uniquePersonList.findIdsByNamePrefix("pau"));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByNamePrefix("tan"));
+    }
+
+    @Test
+    public void findIdsByNamePrefix_afterRemoveAndSetPersons_staysInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.emptySet(), uniquePersonList.findIdsByNamePrefix("alice"));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findIdsByNamePrefix("bob"));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(Collections.emptySet(), uniquePersonList.findIdsByNamePrefix("bob"));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByNamePrefix("alice"));
+    }
+
+    @Test
+    public void countByCategory_afterCategoriesEdited_staysInSync() {
+        uniquePersonList.add(VENDOR_BOB);
+        assertEquals(1, uniquePersonList.countByCategory("Caterer"));
+
+        Person editedBob = new PersonBuilder(VENDOR_BOB).withTags("florist").build();
+        uniquePersonList.setPerson(VENDOR_BOB, editedBob);
+        assertEquals(0, uniquePersonList.countByCategory("caterer"));
+        assertEquals(Set.of(VENDOR_BOB.getId()), uniquePersonList.findIdsByCategory("florist"));
+
+        uniquePersonList.remove(editedBob);
+        assertEquals(0, uniquePersonList.countByCategory("florist"));
+    }
+
+    @Test
+    public void findIdsByPriceOverlapping_afterPriceEdited_staysInSync() {
+        uniquePersonList.add(VENDOR_BOB); // 500-1500
+        uniquePersonList.add(ALICE); // budget 5000-10000
+        assertEquals(Set.of(VENDOR_BOB.getId()), uniquePersonList.findIdsByPriceOverlapping(1500, 3000));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByBudgetOverlapping(1500, 5000));
+
+        Person editedBob = new PersonBuilder(VENDOR_BOB).withPrice("2000-2500").build();
+        uniquePersonList.setPerson(VENDOR_BOB, editedBob);
+        assertEquals(Collections.emptySet(), uniquePersonList.findIdsByPriceOverlapping(0, 1999));
+        assertEquals(Set.of(VENDOR_BOB.getId()), uniquePersonList.findIdsByPriceOverlapping(2500, 3000));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(Collections.emptySet(), uniquePersonList.findIdsByPriceOverlapping(0, Long.MAX_VALUE));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByBudgetOverlapping(0, Long.MAX_VALUE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -108,6 +202,57 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void replacePersons_severalPersons_replacesWithOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(VENDOR_BOB);
+        uniquePersonList.add(BOB);
+        List<Integer> changeSizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            int size = 0;
+            while (change.next()) {
+                size += change.getRemovedSize();
+            }
+            changeSizes.add(size);
+        });
+
+        // phone numbers can move between persons in the same batch
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        Person editedBob = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(BOB, editedBob);
+        replacements.put(ALICE, editedAlice);
+        uniquePersonList.replacePersons(replacements);
+
+        assertEquals(List.of(editedAlice, VENDOR_BOB, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(2), changeSizes);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findByPhone(BOB.getPhone()));
+        assertEquals(Optional.of(editedBob), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void replacePersons_targetNotInList_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(
+                Map.of(ALICE, editedAlice, BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_nonUniqueIdentity_leavesListUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(VENDOR_BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedVendorBob = new PersonBuilder(VENDOR_BOB).withPhone(BOB.getPhone().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(
+                Map.of(ALICE, editedAlice, VENDOR_BOB, editedVendorBob)));
+        assertEquals(List.of(ALICE, BOB, VENDOR_BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -161,6 +306,35 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void add_personWithSameId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aliceWithOtherPhone));
+    }
+
+    @Test
+    public void findById_afterPhoneEdited_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findById(ALICE.getId()));
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
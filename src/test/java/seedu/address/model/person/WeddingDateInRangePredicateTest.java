@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class WeddingDateInRangePredicateTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 8, 31);
+
+    @Test
+    public void equals() {
+        WeddingDateInRangePredicate firstPredicate = new WeddingDateInRangePredicate(FROM, TO);
+        WeddingDateInRangePredicate secondPredicate = new WeddingDateInRangePredicate(FROM, FROM);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new WeddingDateInRangePredicate(FROM, TO)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different window -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_weddingInWindow_returnsTrue() {
+        WeddingDateInRangePredicate predicate = new WeddingDateInRangePredicate(FROM, TO);
+        assertTrue(predicate.test(new PersonBuilder().withWeddingDate("2026-06-01").build()));
+        assertTrue(predicate.test(new PersonBuilder().withWeddingDate("2026-07-15").build()));
+        assertTrue(predicate.test(new PersonBuilder().withWeddingDate("2026-08-31").build()));
+    }
+
+    @Test
+    public void test_weddingOutsideWindow_returnsFalse() {
+        WeddingDateInRangePredicate predicate = new WeddingDateInRangePredicate(FROM, TO);
+        assertFalse(predicate.test(new PersonBuilder().withWeddingDate("2026-05-31").build()));
+        assertFalse(predicate.test(new PersonBuilder().withWeddingDate("2026-09-01").build()));
+
+        // vendors have no wedding date
+        assertFalse(predicate.test(new PersonBuilder().withType(PersonType.VENDOR).build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        WeddingDateInRangePredicate predicate = new WeddingDateInRangePredicate(FROM, TO);
+        String expected = WeddingDateInRangePredicate.class.getCanonicalName() + "{from=" + FROM + ", to=" + TO + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
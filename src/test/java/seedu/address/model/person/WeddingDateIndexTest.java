@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class WeddingDateIndexTest {
+
+    private final WeddingDateIndex weddingDateIndex = new WeddingDateIndex();
+
+    @Test
+    public void findIds_emptyIndex_returnsEmptySet() {
+        assertTrue(weddingDateIndex.findIds(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void findIds_window_inclusiveAndInDateOrder() {
+        weddingDateIndex.put(BENSON); // 2024-02-02
+        weddingDateIndex.put(ALICE); // 2024-01-01
+        weddingDateIndex.put(CARL); // vendor, no wedding date
+
+        assertEquals(List.of(ALICE.getId(), BENSON.getId()),
+                new ArrayList<>(weddingDateIndex.findIds(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 2))));
+        assertEquals(Set.of(BENSON.getId()),
+                weddingDateIndex.findIds(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 12, 31)));
+        assertTrue(weddingDateIndex.findIds(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 2, 1)).isEmpty());
+        assertEquals(2, weddingDateIndex.size());
+    }
+
+    @Test
+    public void findIds_fromAfterTo_returnsEmptySet() {
+        weddingDateIndex.put(ALICE);
+        assertTrue(weddingDateIndex.findIds(LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1)).isEmpty());
+    }
+
+    @Test
+    public void remove_otherPersonsOnSameDate_kept() {
+        Person sameDay = new PersonBuilder().withPhone("11111111").withWeddingDate("01-01-2024").build();
+        weddingDateIndex.put(ALICE);
+        weddingDateIndex.put(sameDay);
+        weddingDateIndex.remove(ALICE);
+
+        assertEquals(Set.of(sameDay.getId()), weddingDateIndex.findIds(LocalDate.MIN, LocalDate.MAX));
+        weddingDateIndex.remove(sameDay);
+        assertEquals(0, weddingDateIndex.size());
+    }
+
+    @Test
+    public void putAll_replacesExistingEntries() {
+        weddingDateIndex.put(ALICE);
+        weddingDateIndex.putAll(List.of(BENSON));
+        assertEquals(Set.of(BENSON.getId()), weddingDateIndex.findIds(LocalDate.MIN, LocalDate.MAX));
+    }
+}
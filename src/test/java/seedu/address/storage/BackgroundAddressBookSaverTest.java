@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    // Long enough that no scheduled write happens before the test waits for it
+    private static final long MAX_STALENESS_MILLIS = 60_000;
+
+    @Test
+    public void save_burstOfChanges_writesLatestDataOnce() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, MAX_STALENESS_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook);
+        addressBook.addPerson(HOON);
+        saver.save(addressBook);
+        addressBook.addPerson(IDA);
+        saver.save(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+
+        saver.awaitPendingSaves();
+        assertEquals(List.of(expected), storage.saved);
+    }
+
+    @Test
+    public void save_writeTimeListener_calledOnlyForWrittenData() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, MAX_STALENESS_MILLIS);
+        List<String> writes = new ArrayList<>();
+
+        saver.save(getTypicalAddressBook(), nanos -> writes.add("replaced"));
+        saver.save(getTypicalAddressBook(), nanos -> writes.add(nanos >= 0 ? "written" : "negative time"));
+        saver.awaitPendingSaves();
+        assertEquals(List.of("written"), writes);
+    }
+
+    @Test
+    public void awaitPendingSaves_nothingPending_doesNotWrite() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, MAX_STALENESS_MILLIS);
+
+        saver.awaitPendingSaves();
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    @Test
+    public void takeFailure_failedSave_returnsFailureOnce() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, MAX_STALENESS_MILLIS);
+
+        saver.save(getTypicalAddressBook());
+        saver.awaitPendingSaves();
+        assertEquals(Optional.of(exception), saver.getFailure());
+        assertEquals(Optional.of(exception), saver.takeFailure());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    /**
+     * An AddressBookStorage that records the address books it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<AddressBook> saved = new ArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.VENDOR_ALICE;
+import static seedu.address.testutil.TypicalPersons.VENDOR_BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(VENDOR_ALICE);
+        addressBook.addPerson(VENDOR_BOB);
+        addressBook.addLink(ALICE, VENDOR_ALICE);
+        addressBook.addLink(ALICE, VENDOR_BOB);
+        addressBook.addLink(BENSON, VENDOR_ALICE);
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+
+        original.removePerson(VENDOR_ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath.resolveSibling("TempAddressBook.bin.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_afterReading_replacesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getLinkedAddressBook());
+
+        // Nothing from reading the snapshot may keep it open, or it cannot be replaced on Windows
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(VENDOR_ALICE);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedStrings_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+
+        String contents = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        assertEquals(contents.indexOf("vendor"), contents.lastIndexOf("vendor"));
+        assertEquals(contents.indexOf("client"), contents.lastIndexOf("client"));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_importsJsonFile() throws Exception {
+        Files.copy(TYPICAL_PERSONS_FILE, testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        ReadOnlyAddressBook imported = storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(imported));
+    }
+
+    @Test
+    public void saveAddressBook_jsonFilePath_exportsLosslessly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("Exported.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+        storage.saveAddressBook(original);
+
+        // binary -> json
+        storage.saveAddressBook(storage.readAddressBook().get(), jsonFilePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(jsonFilePath));
+
+        // json -> binary
+        byte[] snapshot = Files.readAllBytes(filePath);
+        storage.saveAddressBook(storage.readAddressBook(jsonFilePath).get());
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_wrongMagic_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "this file is not a binary address book!");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, ByteBuffer.allocate(8).putInt(BinaryAddressBookStorage.MAGIC).putInt(99).array());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_withoutChecksum_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+
+        // The same snapshot without the checksum at the end, labelled with an older version
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer unchecked = ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - Integer.BYTES));
+        unchecked.putInt(Integer.BYTES, BinaryAddressBookStorage.VERSION - 1);
+        Files.write(filePath, unchecked.array());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        int nameIndex = new String(bytes, StandardCharsets.ISO_8859_1).indexOf(ALICE.getName().fullName);
+        bytes[nameIndex] = 'B';
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getLinkedAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 6));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "addressbook.json")));
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("a.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("a.json"), 10);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_doesNotWrite() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.delete(filePath);
+
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipsComparingPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AtomicInteger personListReads = new AtomicInteger();
+        AddressBook original = new AddressBook(getTypicalAddressBook()) {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                personListReads.incrementAndGet();
+                return super.getPersonList();
+            }
+        };
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        personListReads.set(0);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original.getSnapshot());
+        assertEquals(0, personListReads.get());
+
+        original.removePerson(HOON);
+        original.addLink(ALICE, BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editedAddressBook_onlyLooksAtChangedPersons() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AtomicInteger reads = new AtomicInteger();
+        AddressBook original = new AddressBook(getTypicalAddressBook()) {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                reads.incrementAndGet();
+                return super.getPersonList();
+            }
+
+            @Override
+            public List<Person> getLinkedPersons(Person person) {
+                reads.incrementAndGet();
+                return super.getLinkedPersons(person);
+            }
+        };
+        storage.saveAddressBook(original);
+
+        reads.set(0);
+        original.addPerson(HOON);
+        original.addLink(ALICE, HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.com").build());
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        assertEquals(0, reads.get());
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.com").build();
+        original.setPerson(ALICE, editedAlice);
+        original.addLink(editedAlice, HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath, 1).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftBehindByCompaction_skipsStaleEntries() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.com").build();
+        original.setPerson(ALICE, editedAlice);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String staleJournal = Files.readString(journalFilePath);
+
+        // This save compacts the journal into a snapshot, and the app stops before the old journal is deleted
+        Person reeditedAlice = new PersonBuilder(editedAlice).withEmail("alice@example.org").build();
+        original.setPerson(editedAlice, reeditedAlice);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        Files.writeString(journalFilePath, staleJournal);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // Entries appended after the stale ones are replayed
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath, 2).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        storage.saveAddressBook(reordered);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(reordered, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenEntry_skipsEntryAndCompactsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalFilePath, "{\"remove\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{}\n");
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithoutIds_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TYPICAL_PERSONS_FILE, filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath, 10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("a.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -18,6 +18,7 @@ import seedu.address.model.person.Budget;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
 
@@ -29,7 +30,9 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_WEDDING_DATE = "invalid-date";
     private static final String INVALID_TAG = "#friend";
     private static final String INVALID_TYPE = "boss";
+    private static final String INVALID_ID = "not-a-uuid";
 
+    private static final String VALID_ID = BENSON.getId().toString();
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
@@ -47,19 +50,41 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(INVALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullId_derivesIdFromPhone() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
+        assertEquals(PersonId.fromLegacyPhone(BENSON.getPhone()), person.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -67,16 +92,16 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS,
-                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS,
+                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -84,16 +109,16 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS,
-                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, null, VALID_ADDRESS,
+                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -101,16 +126,16 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
-                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
+                VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -118,8 +143,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidWeddingDate_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        INVALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        INVALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = WeddingDate.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -127,8 +152,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullWeddingDate_success() throws Exception {
         // Test with client type - clients must have wedding dates
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, null,
-                VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                null, VALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = Person.MSG_WEDDING_DATE_REQUIRED_FOR_CLIENT;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -138,16 +163,16 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedCategory> invalidCategories = new ArrayList<>(VALID_CATEGORIES);
         invalidCategories.add(new JsonAdaptedCategory(INVALID_TAG));
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, invalidCategories, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, null, VALID_PARTNER, invalidCategories, null, null);
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
     @Test
     public void toModelType_invalidType_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, INVALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, INVALID_TYPE, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = "Type must be 'client' or 'vendor'.";
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -155,8 +180,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullType_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, null, null, null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, null, null, null, VALID_PARTNER, VALID_CATEGORIES, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "type");
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -164,8 +189,9 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPrice_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, "invalid-price", null, VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, "invalid-price", null, VALID_PARTNER, VALID_CATEGORIES,
+                        null, null);
         String expectedMessage = Price.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -173,8 +199,9 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidBudget_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, VALID_TYPE, null, "invalid-budget", VALID_PARTNER, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, VALID_TYPE, null, "invalid-budget", VALID_PARTNER, VALID_CATEGORIES,
+                        null, null);
         String expectedMessage = Budget.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -182,8 +209,9 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_clientMissingPartner_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
-                        VALID_WEDDING_DATE, "client", null, "5000-10000", /* partner */ null, VALID_CATEGORIES, null);
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                        VALID_WEDDING_DATE, "client", null, "5000-10000", /* partner */ null, VALID_CATEGORIES,
+                        null, null);
         String expectedMessage = Person.MSG_PARTNER_REQUIRED_FOR_CLIENT;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -191,9 +219,9 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_vendorHasPartner_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                         VALID_WEDDING_DATE, "vendor", "500-1000", null, /* partner */ "Someone", VALID_CATEGORIES,
-                        null);
+                        null, null);
         String expectedMessage = Person.MSG_PARTNER_FORBIDDEN_FOR_VENDOR;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -15,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.PersonType;
 import seedu.address.testutil.TypicalPersons;
 
@@ -63,6 +65,7 @@ public class JsonSerializableAddressBookTest {
     // Additional tests to improve coverage of link resolution and duplicate handling using in-memory adapters
     private JsonAdaptedPerson makeClient(String name, String phone) {
         return new JsonAdaptedPerson(
+                null,
                 name,
                 phone,
                 name.toLowerCase().replace(" ", "") + "@e.co",
@@ -73,11 +76,13 @@ public class JsonSerializableAddressBookTest {
                 "1000-2000",
                 "Pat Partner",
                 Collections.emptyList(),
+                Collections.emptyList(),
                 Collections.emptyList());
     }
 
     private JsonAdaptedPerson makeVendor(String name, String phone, java.util.List<String> linkedPhones) {
         return new JsonAdaptedPerson(
+                null,
                 name,
                 phone,
                 name.toLowerCase().replace(" ", "") + "@e.co",
@@ -88,6 +93,7 @@ public class JsonSerializableAddressBookTest {
                 null,
                 null,
                 Collections.emptyList(),
+                Collections.emptyList(),
                 linkedPhones);
     }
 
@@ -114,7 +120,7 @@ public class JsonSerializableAddressBookTest {
         Person vendorModel = model.getPersonList().stream()
                 .filter(p -> p.getName().fullName.equals("Vendor V"))
                 .findFirst().orElseThrow();
-        assertTrue(vendorModel.isLinkedTo(clientModel));
+        assertTrue(model.hasLink(vendorModel, clientModel));
     }
 
     @Test
@@ -136,7 +142,37 @@ public class JsonSerializableAddressBookTest {
                 .findFirst().orElseThrow();
 
         // The missing phone should be ignored, but the existing one should be linked
-        assertTrue(vendorModel.isLinkedTo(clientModel));
+        assertTrue(model.hasLink(vendorModel, clientModel));
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_preservesIdsAndLinks() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(TypicalPersons.ALICE);
+        original.addPerson(TypicalPersons.FIONA);
+        original.addLink(TypicalPersons.ALICE, TypicalPersons.FIONA);
+
+        AddressBook restored = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, restored);
+        assertEquals(TypicalPersons.ALICE.getId(), restored.getPersonList().get(0).getId());
+        assertTrue(restored.hasLink(TypicalPersons.ALICE, TypicalPersons.FIONA));
     }
 
+    @Test
+    public void toModelType_legacyLinkedPhones_migratedToIds() throws Exception {
+        JsonAdaptedPerson client = makeClient("Client E", "66666666");
+        JsonAdaptedPerson vendor = makeVendor("Vendor X", "77777777", Collections.singletonList("66666666"));
+
+        AddressBook model = new JsonSerializableAddressBook(Arrays.asList(client, vendor)).toModelType();
+        Person clientModel = model.getPersonList().get(0);
+        Person vendorModel = model.getPersonList().get(1);
+        assertEquals(PersonId.fromLegacyPhone(clientModel.getPhone()), clientModel.getId());
+
+        assertTrue(model.hasLink(clientModel, vendorModel));
+
+        // Saving again writes the links as ids only
+        String saved = JsonUtil.toJsonString(new JsonSerializableAddressBook(model));
+        assertTrue(saved.contains(clientModel.getId().value));
+        assertFalse(saved.contains("linkedPersonPhones"));
+    }
 }
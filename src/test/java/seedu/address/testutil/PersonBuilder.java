@@ -12,6 +12,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Partner;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.PersonType;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
@@ -29,6 +30,7 @@ public class PersonBuilder {
     public static final PersonType DEFAULT_TYPE = PersonType.CLIENT;
     public static final String DEFAULT_PARTNER = "Clara Chia";
 
+    private PersonId id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -39,13 +41,13 @@ public class PersonBuilder {
     private Price price;
     private Budget budget;
     private Optional<Partner> partner;
-    private Set<Person> linkedPersons;
 
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
      */
     public PersonBuilder() {
+        id = PersonId.generate();
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
@@ -56,13 +58,13 @@ public class PersonBuilder {
         price = null;
         budget = null;
         partner = Optional.of(new Partner(DEFAULT_PARTNER));
-        linkedPersons = new HashSet<>();
     }
 
     /**
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
@@ -73,7 +75,14 @@ public class PersonBuilder {
         price = personToCopy.getPrice().orElse(null);
         budget = personToCopy.getBudget().orElse(null);
         partner = personToCopy.getPartner();
-        linkedPersons = new HashSet<>(personToCopy.getLinkedPersons());
+    }
+
+    /**
+     * Sets the {@code PersonId} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(String id) {
+        this.id = new PersonId(id);
+        return this;
     }
 
     /**
@@ -199,14 +208,6 @@ public class PersonBuilder {
         return this;
     }
 
-    /**
-     * Sets the {@code linkedPersons} of the {@code Person} that we are building.
-     */
-    public PersonBuilder withLinkedPersons(Set<Person> linkedPersons) {
-        this.linkedPersons = linkedPersons;
-        return this;
-    }
-
     /**
      * Builds a Person object using the appropriate constructor based on the person type.
      * @return a Person object
@@ -216,19 +217,12 @@ public class PersonBuilder {
             if (partner != null && partner.isPresent()) {
                 throw new IllegalArgumentException("Vendors cannot have a partner");
             }
-            if (linkedPersons != null && !linkedPersons.isEmpty()) {
-                return new Person(name, phone, email, address, type, categories, linkedPersons, price);
-            }
-            return new Person(name, phone, email, address, type, categories, price);
+            return new Person(id, name, phone, email, address, type, categories, price);
         } else {
             if (partner == null || partner.isEmpty()) {
                 throw new IllegalArgumentException("Clients must have a partner");
             }
-            if (linkedPersons != null && !linkedPersons.isEmpty()) {
-                return new Person(name, phone, email, address, weddingDate, type, categories,
-                        linkedPersons, price, budget, partner);
-            }
-            return new Person(name, phone, email, address, weddingDate, type, categories, price, budget, partner);
+            return new Person(id, name, phone, email, address, weddingDate, type, categories, price, budget, partner);
         }
     }
 
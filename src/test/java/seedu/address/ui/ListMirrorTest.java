@@ -0,0 +1,74 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListMirrorTest {
+
+    // Runs the tasks handed to it only when asked to, like the JavaFX application thread
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> mirror = new ListMirror<>(source, tasks::add).getList();
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(List.of("a", "b"), mirror);
+    }
+
+    @Test
+    public void getList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+
+    @Test
+    public void sourceChanged_mirrorChangedOnlyOnExecutor() {
+        source.add("c");
+        source.set(0, "d");
+        source.remove("b");
+        assertEquals(List.of("a", "b"), mirror);
+
+        runTasks();
+        assertEquals(List.of("d", "c"), mirror);
+    }
+
+    @Test
+    public void sourceChanged_manyRandomChanges_mirrorEqualsSource() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(5);
+            if (source.isEmpty() || operation == 0) {
+                source.add(random.nextInt(source.size() + 1), "added " + i);
+            } else if (operation == 1) {
+                source.set(random.nextInt(source.size()), "set " + i);
+            } else if (operation == 2) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 3) {
+                source.setAll(List.of("all " + i, "all " + (i + 1)));
+            } else {
+                source.addAll(List.of("more " + i, "more " + (i + 1)));
+            }
+            if (random.nextInt(10) == 0) {
+                runTasks();
+                assertEquals(source, mirror);
+            }
+        }
+        runTasks();
+        assertEquals(source, mirror);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonType;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the frame time of the person list while it is scrolled through a large address book.
+ * Each frame scrolls the list down by a few rows and lays it out again, which is the work JavaFX does on every pulse
+ * while the user scrolls. Run it with {@code gradlew scrollBenchmark}, which renders headlessly through Monocle,
+ * optionally passing the number of persons with {@code --args}.
+ */
+public class PersonListScrollBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int WARMUP_FRAMES = 1_000;
+    private static final int MEASURED_FRAMES = 5_000;
+    private static final int ROWS_PER_FRAME = 3;
+    private static final double FRAME_BUDGET_MILLIS = 1000.0 / 60;
+
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<Person> persons = createPersons(personCount);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        FutureTask<long[]> scroll = new FutureTask<>(() -> scroll(persons));
+        Platform.runLater(scroll);
+        long[] frameNanos = scroll.get();
+        Platform.exit();
+
+        report(personCount, frameNanos);
+    }
+
+    /**
+     * Returns {@code count} persons, alternating between clients and vendors with a few categories.
+     */
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PersonBuilder builder = new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("person" + i + "@example.com");
+            if (i % 2 == 0) {
+                builder.withType(PersonType.CLIENT).withBudget((1000 + i % 5000) + "-20000");
+            } else {
+                builder.withType(PersonType.VENDOR).withPrice(String.valueOf(500 + i % 3000))
+                        .withTags("florist", "category" + i % 7);
+            }
+            persons.add(builder.build());
+        }
+        return persons;
+    }
+
+    /**
+     * Shows {@code persons} in a {@code PersonListPanel} and scrolls through them, returning the time each measured
+     * frame took in nanoseconds. Must be called on the JavaFX application thread.
+     */
+    private static long[] scroll(List<Person> persons) {
+        PersonListPanel panel = new PersonListPanel(FXCollections.observableArrayList(persons), person -> {});
+        Scene scene = new Scene(panel.getRoot(), 600, 800);
+        scene.getStylesheets().add(PersonListScrollBenchmark.class.getResource("/view/DarkTheme.css").toExternalForm());
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+
+        ListView<?> listView = (ListView<?>) scene.lookup("#personListView");
+        long[] frameNanos = new long[MEASURED_FRAMES];
+        int row = 0;
+        for (int frame = -WARMUP_FRAMES; frame < MEASURED_FRAMES; frame++) {
+            row = (row + ROWS_PER_FRAME) % persons.size();
+            long start = System.nanoTime();
+            listView.scrollTo(row);
+            scene.getRoot().applyCss();
+            scene.getRoot().layout();
+            long elapsed = System.nanoTime() - start;
+            if (frame >= 0) {
+                frameNanos[frame] = elapsed;
+            }
+        }
+
+        stage.hide();
+        return frameNanos;
+    }
+
+    private static void report(int personCount, long[] frameNanos) {
+        long[] sorted = frameNanos.clone();
+        Arrays.sort(sorted);
+        double meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+        long overBudget = Arrays.stream(sorted).filter(nanos -> nanos / 1e6 > FRAME_BUDGET_MILLIS).count();
+
+        System.out.printf("Scrolled %,d persons, %d rows per frame, %,d frames measured%n",
+                personCount, ROWS_PER_FRAME, sorted.length);
+        System.out.printf("frame time (ms): mean %.3f, p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n", meanMillis,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / 1e6);
+        System.out.printf("frames over the %.1f ms budget of 60 fps: %d%n", FRAME_BUDGET_MILLIS, overBudget);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.VENDOR_ALICE;
+import static seedu.address.testutil.TypicalPersons.VENDOR_BOB;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonViewModelTest {
+
+    @Test
+    public void of_samePerson_returnsSameViewModel() {
+        assertSame(PersonViewModel.of(ALICE), PersonViewModel.of(ALICE));
+    }
+
+    @Test
+    public void getters_returnSameTextOnEveryCall() {
+        PersonViewModel viewModel = PersonViewModel.of(VENDOR_ALICE);
+        assertEquals("Alice Photographer", viewModel.getDisplayName(VENDOR_ALICE));
+        assertSame(viewModel.getDisplayName(VENDOR_ALICE), viewModel.getDisplayName(VENDOR_ALICE));
+        assertEquals("-", viewModel.getWeddingDateText(VENDOR_ALICE));
+        assertEquals(List.of("photographer"), viewModel.getSortedCategoryNames(VENDOR_ALICE));
+    }
+
+    @Test
+    public void of_equalPerson_sharesViewModel() {
+        // e.g. the person that replaces ALICE after an edit that changes nothing
+        Person unchangedAlice = new PersonBuilder(ALICE).build();
+        PersonViewModel viewModel = PersonViewModel.of(unchangedAlice);
+        assertSame(PersonViewModel.of(ALICE), viewModel);
+        assertEquals("Alice Pauline & Aaron Tan", viewModel.getDisplayName(unchangedAlice));
+    }
+
+    @Test
+    public void getCategoriesText_sortedAndJoined() {
+        Person vendor = new PersonBuilder(VENDOR_BOB).withTags("florist", "caterer", "baker").build();
+        assertEquals("baker, caterer, florist", PersonViewModel.of(vendor).getCategoriesText(vendor));
+    }
+
+    @Test
+    public void getLinkedPersonsSummary_vendor_listsClientsByWeddingDate() {
+        String expected = "Client(s):\n"
+                + "• " + ALICE.getWeddingDate().get() + ": Alice Pauline & Aaron Tan (94351253)\n"
+                + "• " + BENSON.getWeddingDate().get() + ": Benson Meier & Beatrice Lim (98765432)";
+        PersonViewModel viewModel = PersonViewModel.of(VENDOR_ALICE);
+        String summary = viewModel.getLinkedPersonsSummary(VENDOR_ALICE, List.of(BENSON, ALICE));
+        assertEquals(expected, summary);
+
+        // the same links again reuse the summary
+        assertSame(summary, viewModel.getLinkedPersonsSummary(VENDOR_ALICE, List.of(BENSON, ALICE)));
+    }
+
+    @Test
+    public void getLinkedPersonsSummary_client_listsVendorsByCategory() {
+        String expected = "Vendor(s):\n"
+                + "• photographer: Alice Photographer (91234567)\n"
+                + "• caterer: Bob Caterer (92345678)";
+        assertEquals(expected,
+                PersonViewModel.of(ALICE).getLinkedPersonsSummary(ALICE, List.of(VENDOR_BOB, VENDOR_ALICE)));
+    }
+
+    @Test
+    public void getLinkedPersonsSummary_linksChanged_recomputed() {
+        PersonViewModel viewModel = PersonViewModel.of(BENSON);
+        String summary = viewModel.getLinkedPersonsSummary(BENSON, List.of(VENDOR_ALICE));
+        String changedSummary = viewModel.getLinkedPersonsSummary(BENSON, List.of(VENDOR_ALICE, VENDOR_BOB));
+        assertEquals(summary + "\n• caterer: Bob Caterer (92345678)", changedSummary);
+    }
+}